@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.grok;
+
+import org.opensearch.grok.Grok;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches a batch of log lines with grok, either allocating the captures of every line or reusing them across the batch.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokBenchmark {
+
+    private static final String[] APACHE_LINES = new String[] {
+        "83.149.9.216 - - [17/May/2015:10:05:03 +0000] \"GET /presentations/logstash-monitorama-2013/images/kibana-search.png HTTP/1.1\" "
+            + "200 203023 \"http://semicomplete.com/presentations/logstash-monitorama-2013/\" \"Mozilla/5.0 (Macintosh; Intel Mac OS X "
+            + "10_9_1) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/32.0.1700.77 Safari/537.36\"",
+        "66.249.73.135 - - [17/May/2015:10:05:40 +0000] \"GET /blog/geekery/solaris-10-interfaces-prefix.html HTTP/1.1\" 200 13525 "
+            + "\"-\" \"Mozilla/5.0 (iPhone; CPU iPhone OS 6_0 like Mac OS X) AppleWebKit/536.26 (KHTML, like Gecko) Version/6.0 "
+            + "Mobile/10A5376e Safari/8536.25 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)\"",
+        "24.236.252.67 - - [17/May/2015:10:05:40 +0000] \"GET /favicon.ico HTTP/1.1\" 200 3638 \"-\" \"Mozilla/5.0 (Windows NT 6.1; "
+            + "WOW64; rv:26.0) Gecko/20100101 Firefox/26.0\"" };
+
+    private static final String[] SYSLOG_LINES = new String[] {
+        "Mar 16 00:01:25 evita postfix/smtpd[1713]: connect from camomile.cloud9.net[168.100.1.3]",
+        "Mar 16 00:01:26 evita postfix/smtpd[1713]: disconnect from camomile.cloud9.net[168.100.1.3]",
+        "Mar 16 00:02:11 evita sshd[2051]: Accepted publickey for admin from 10.0.0.12 port 52814 ssh2" };
+
+    @Param({ "apache", "syslog" })
+    public String logs;
+
+    @Param({ "1000" })
+    public int batchSize;
+
+    private Grok grok;
+    private String[] lines;
+
+    @Setup
+    public void setup() {
+        String pattern = logs.equals("apache") ? "%{COMBINEDAPACHELOG}" : "%{SYSLOGLINE}";
+        String[] samples = logs.equals("apache") ? APACHE_LINES : SYSLOG_LINES;
+        grok = new Grok(Grok.BUILTIN_PATTERNS, pattern, message -> {});
+        lines = new String[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            lines[i] = samples[i % samples.length];
+        }
+    }
+
+    @Benchmark
+    public void captures(Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(grok.captures(line));
+        }
+    }
+
+    @Benchmark
+    public void reusableCaptures(Blackhole bh) {
+        Grok.ReusableCaptures captures = grok.reusableCaptures();
+        for (String line : lines) {
+            Map<String, Object> matches = captures.captures(line);
+            bh.consume(matches.size());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.IndexingPressureService;
+import org.opensearch.index.ShardIndexingPressureSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request overhead of the shard indexing pressure accounting done for every primary bulk shard request,
+ * with write threads either contending on the same shard or spread over several shards.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class ShardIndexingPressureBenchmark {
+
+    @Param({ "1", "16" })
+    private int shards;
+
+    @Param({ "1024" })
+    private long requestBytes;
+
+    private IndexingPressureService indexingPressureService;
+    private ShardId[] shardIds;
+
+    @Setup
+    public void setUp() {
+        Settings settings = Settings.builder()
+            .put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "1gb")
+            .put(ShardIndexingPressureSettings.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), true)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        indexingPressureService = new IndexingPressureService(settings, new ClusterService(settings, clusterSettings, null));
+        Index index = new Index("index", "uuid");
+        shardIds = new ShardId[shards];
+        for (int i = 0; i < shards; i++) {
+            shardIds[i] = new ShardId(index, i);
+        }
+    }
+
+    private void markPrimaryOperation() {
+        ShardId shardId = shardIds[ThreadLocalRandom.current().nextInt(shards)];
+        // the request is released right away, only the accounting overhead is measured
+        Releasable releasable = indexingPressureService.markPrimaryOperationStarted(shardId, requestBytes, false);
+        releasable.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void markPrimaryOperationStarted_01() {
+        markPrimaryOperation();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void markPrimaryOperationStarted_08() {
+        markPrimaryOperation();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void markPrimaryOperationStarted_32() {
+        markPrimaryOperation();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void markPrimaryOperationStarted_64() {
+        markPrimaryOperation();
+    }
+}
@@ -35,6 +35,7 @@ package org.opensearch.benchmark.search.aggregations.bucket.terms;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.util.SwissLongHash;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.bucket.histogram.AutoDateHistogramAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
@@ -73,6 +74,11 @@ public class LongKeyedBucketOrdsBenchmark {
      * values won't be scattered evenly across the buckets.
      */
     private static final long DISTINCT_BUCKETS = 21;
+    /**
+     * The number of distinct values to add in the high cardinality cases, where most
+     * lookups miss the CPU caches and the layout of the hash table matters most.
+     */
+    private static final long HIGH_CARDINALITY_DISTINCT_VALUES = 500_000;
 
     private final PageCacheRecycler recycler = new PageCacheRecycler(Settings.EMPTY);
     private final BigArrays bigArrays = new BigArrays(recycler, null, "REQUEST");
@@ -155,6 +161,41 @@ public class LongKeyedBucketOrdsBenchmark {
         ords.close();
     }
 
+    /**
+     * Emulates a high cardinality aggregation collecting from a single bucket, such as
+     * a {@code terms} aggregation on a numeric field with many unique values.
+     */
+    @Benchmark
+    public void singleBucketIntoSingleHighCardinality(Blackhole bh) {
+        try (LongKeyedBucketOrds.FromSingle ords = new LongKeyedBucketOrds.FromSingle(bigArrays)) {
+            for (long i = 0; i < LIMIT; i++) {
+                ords.add(0, highCardinalityValue(i));
+            }
+            bh.consume(ords);
+        }
+    }
+
+    /**
+     * The Swiss table alternative to the backing hash table of {@link LongKeyedBucketOrds.FromSingle},
+     * to compare against {@link #singleBucketIntoSingleHighCardinality}.
+     */
+    @Benchmark
+    public void swissLongHashHighCardinality(Blackhole bh) {
+        try (SwissLongHash ords = new SwissLongHash(bigArrays)) {
+            for (long i = 0; i < LIMIT; i++) {
+                ords.add(highCardinalityValue(i));
+            }
+            bh.consume(ords);
+        }
+    }
+
+    /**
+     * Scatters the values so that consecutive adds are not correlated.
+     */
+    private static long highCardinalityValue(long i) {
+        return (i % HIGH_CARDINALITY_DISTINCT_VALUES) * 0x9E3779B97F4A7C15L;
+    }
+
     /**
      * Emulates an aggregation that collects from a single bucket "by accident".
      * This can happen if an aggregation is under, say, a {@code terms}
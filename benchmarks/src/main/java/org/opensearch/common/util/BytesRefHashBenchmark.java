@@ -58,7 +58,7 @@ public class BytesRefHashBenchmark {
 
     @State(Scope.Benchmark)
     public static class Options {
-        @Param({ "MURMUR3", "T1HA1" })
+        @Param({ "MURMUR3", "T1HA1", "SWISS_T1HA1" })
         public Type type;
 
         @Param({
@@ -226,6 +226,25 @@ public class BytesRefHashBenchmark {
                 return table.add(key);
             }
 
+            @Override
+            public void close() {
+                table.close();
+            }
+        }),
+
+        SWISS_T1HA1(() -> new HashTable() {
+            private final SwissBytesRefHash table = new SwissBytesRefHash(
+                1,
+                0.8f,
+                key -> T1ha1.hash(key.bytes, key.offset, key.length, 0),
+                BigArrays.NON_RECYCLING_INSTANCE
+            );
+
+            @Override
+            public long add(BytesRef key) {
+                return table.add(key);
+            }
+
             @Override
             public void close() {
                 table.close();
@@ -369,6 +369,40 @@ public final class Grok {
         return null;
     }
 
+    /**
+     * Returns a {@link ReusableCaptures} of this expression. It reuses its capture extracters and result map across the
+     * texts it matches, which saves allocating them for every text when matching a batch of texts on a single thread.
+     */
+    public ReusableCaptures reusableCaptures() {
+        return new ReusableCaptures();
+    }
+
+    /**
+     * Matches texts and returns their named captures into a map that is reused across calls, see
+     * {@link #reusableCaptures()}. Instances are not thread safe.
+     */
+    public final class ReusableCaptures {
+        private final GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(captureConfig);
+
+        private ReusableCaptures() {}
+
+        /**
+         * Matches and returns any named captures, like {@link Grok#captures(String)}.
+         *
+         * @param text the text to match and extract values from.
+         * @return a map containing field names and their respective coerced values that matched or null if the pattern didn't
+         * match. The map is only valid until the next call.
+         */
+        public Map<String, Object> captures(String text) {
+            extracter.reset();
+            byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+            if (match(utf8Bytes, 0, utf8Bytes.length, extracter)) {
+                return extracter.result();
+            }
+            return null;
+        }
+    }
+
     /**
      * Matches and collects any named captures.
      * @param utf8Bytes array containing the text to match against encoded in utf-8
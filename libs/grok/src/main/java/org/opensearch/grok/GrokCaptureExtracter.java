@@ -71,6 +71,15 @@ public abstract class GrokCaptureExtracter {
         Map<String, Object> result() {
             return result;
         }
+
+        /**
+         * Clears the captures of the previous match so that this extracter can collect another result.
+         */
+        void reset() {
+            if (result.isEmpty() == false) {
+                result.clear();
+            }
+        }
     }
 
     abstract void extract(byte[] utf8Bytes, int offset, Region region);
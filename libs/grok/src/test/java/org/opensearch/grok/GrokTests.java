@@ -128,6 +128,17 @@ public class GrokTests extends OpenSearchTestCase {
         assertThat(logsource[0], equalTo("evita"));
     }
 
+    public void testReusableCaptures() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{NUMBER:num:int} (%{WORD:word})?", logger::warn);
+        Grok.ReusableCaptures captures = grok.reusableCaptures();
+        for (String text : new String[] { "12 abc", "34 ", "x", "56 def" }) {
+            Map<String, Object> expected = grok.captures(text);
+            Map<String, Object> actual = captures.captures(text);
+            // captures of a previous text must not be reported for the next ones
+            assertEquals(expected, actual == null ? null : new HashMap<>(actual));
+        }
+    }
+
     public void testSyslog5424Line() {
         String line = "<191>1 2009-06-30T18:30:00+02:00 paxton.local grokdebug 4123 - [id1 foo=\\\"bar\\\"][id2 baz=\\\"something\\\"] "
             + "Hello, syslog.";
@@ -39,11 +39,15 @@ import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -82,6 +86,28 @@ public final class GrokProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
+        return execute(ingestDocument, grok::captures);
+    }
+
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        // the documents of a batch are processed one after the other on this thread, so they can share the capture extracters
+        Grok.ReusableCaptures captures = grok.reusableCaptures();
+        List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            IngestDocument result = null;
+            Exception exception = null;
+            try {
+                result = execute(wrapper.getIngestDocument(), captures::captures);
+            } catch (Exception e) {
+                exception = e;
+            }
+            results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getChildSlot(), result, exception));
+        }
+        handler.accept(results);
+    }
+
+    private IngestDocument execute(IngestDocument ingestDocument, Function<String, Map<String, Object>> grokCaptures) {
         String fieldValue = ingestDocument.getFieldValue(matchField, String.class, ignoreMissing);
 
         if (fieldValue == null && ignoreMissing) {
@@ -90,7 +116,7 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
+        Map<String, Object> matches = grokCaptures.apply(fieldValue);
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
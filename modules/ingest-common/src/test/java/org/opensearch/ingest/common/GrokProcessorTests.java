@@ -34,12 +34,15 @@ package org.opensearch.ingest.common;
 
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
@@ -65,6 +68,47 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.getFieldValue("one", String.class), equalTo("1"));
     }
 
+    public void testBatchExecute() {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            Map.of("NUMBER", "\\d+", "WORD", "[a-z]+"),
+            Arrays.asList("%{NUMBER:number:int} %{WORD:word}", "%{WORD:name}"),
+            fieldName,
+            false,
+            false,
+            MatcherWatchdog.noop()
+        );
+        String[] values = new String[] { "12 abc", "def", "34 gh", "!!", "ij" };
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            doc.setFieldValue(fieldName, values[i]);
+            wrappers.add(new IngestDocumentWrapper(i, 0, doc, null));
+        }
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+        assertThat(results.size(), equalTo(1));
+        List<IngestDocumentWrapper> batchResults = results.get(0);
+        assertThat(batchResults.size(), equalTo(values.length));
+
+        // the captures of a document must not leak into the next ones
+        assertThat(batchResults.get(0).getIngestDocument().getFieldValue("number", Integer.class), equalTo(12));
+        assertThat(batchResults.get(0).getIngestDocument().getFieldValue("word", String.class), equalTo("abc"));
+        assertThat(batchResults.get(1).getIngestDocument().getFieldValue("name", String.class), equalTo("def"));
+        assertFalse(batchResults.get(1).getIngestDocument().hasField("number"));
+        assertThat(batchResults.get(2).getIngestDocument().getFieldValue("number", Integer.class), equalTo(34));
+        assertNull(batchResults.get(3).getIngestDocument());
+        assertThat(batchResults.get(3).getException().getMessage(), equalTo("Provided Grok expressions do not match field value: [!!]"));
+        assertThat(batchResults.get(4).getIngestDocument().getFieldValue("name", String.class), equalTo("ij"));
+        assertFalse(batchResults.get(4).getIngestDocument().hasField("number"));
+        assertFalse(batchResults.get(4).getIngestDocument().hasField("word"));
+        for (int i = 0; i < values.length; i++) {
+            assertThat(batchResults.get(i).getSlot(), equalTo(i));
+        }
+    }
+
     public void testIgnoreCase() throws Exception {
         String fieldName = RandomDocumentPicks.randomFieldName(random());
         IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
@@ -93,6 +93,21 @@ class ExpressionAggregationScript implements AggregationScript.LeafFactory {
                 }
             }
 
+            @Override
+            public double runAsDouble() {
+                // expressions always evaluate to a double, which does not need to be boxed by execute()
+                try {
+                    return values.doubleValue();
+                } catch (Exception exception) {
+                    throw new GeneralScriptException("Error evaluating " + exprScript, exception);
+                }
+            }
+
+            @Override
+            public long runAsLong() {
+                return (long) runAsDouble();
+            }
+
             @Override
             public void setDocument(int d) {
                 try {
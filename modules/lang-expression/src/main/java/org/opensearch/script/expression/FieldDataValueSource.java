@@ -37,10 +37,8 @@ import org.apache.lucene.queries.function.ValueSource;
 import org.apache.lucene.search.DoubleValues;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.LeafNumericFieldData;
-import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.search.MultiValueMode;
 
-import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -77,18 +75,8 @@ class FieldDataValueSource extends FieldDataBasedDoubleValuesSource {
     @Override
     public DoubleValues getValues(LeafReaderContext leaf, DoubleValues scores) {
         LeafNumericFieldData leafData = (LeafNumericFieldData) fieldData.load(leaf);
-        NumericDoubleValues docValues = multiValueMode.select(leafData.getDoubleValues());
-        return new DoubleValues() {
-            @Override
-            public double doubleValue() throws IOException {
-                return docValues.doubleValue();
-            }
-
-            @Override
-            public boolean advanceExact(int doc) throws IOException {
-                return docValues.advanceExact(doc);
-            }
-        };
+        // numeric doc values are already double values, wrapping them would add a virtual call per document
+        return multiValueMode.select(leafData.getDoubleValues());
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.script.expression;
+
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.fielddata.LeafNumericFieldData;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberType;
+import org.opensearch.script.AggregationScript;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExpressionAggregationScriptTests extends OpenSearchTestCase {
+    private ExpressionScriptEngine service;
+    private SearchLookup lookup;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        NumberFieldType fieldType = new NumberFieldType("field", NumberType.DOUBLE);
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.fieldType("field")).thenReturn(fieldType);
+
+        SortedNumericDoubleValues doubleValues = mock(SortedNumericDoubleValues.class);
+        when(doubleValues.advanceExact(anyInt())).thenReturn(true);
+        when(doubleValues.docValueCount()).thenReturn(1);
+        when(doubleValues.nextValue()).thenReturn(2.718);
+
+        LeafNumericFieldData atomicFieldData = mock(LeafNumericFieldData.class);
+        when(atomicFieldData.getDoubleValues()).thenReturn(doubleValues);
+
+        IndexNumericFieldData fieldData = mock(IndexNumericFieldData.class);
+        when(fieldData.getFieldName()).thenReturn("field");
+        when(fieldData.load(any())).thenReturn(atomicFieldData);
+
+        service = new ExpressionScriptEngine();
+        lookup = new SearchLookup(mapperService, (ignored, lookup) -> fieldData, SearchLookup.UNKNOWN_SHARD_ID);
+    }
+
+    private AggregationScript.LeafFactory compile(String expression) {
+        AggregationScript.Factory factory = service.compile(null, expression, AggregationScript.CONTEXT, Collections.emptyMap());
+        return factory.newFactory(Collections.emptyMap(), lookup);
+    }
+
+    public void testRunAsDouble() throws IOException {
+        AggregationScript script = compile("doc['field'].value * 2").newInstance(null);
+        script.setDocument(1);
+
+        assertEquals(5.436, script.runAsDouble(), 0.0);
+        assertEquals(5L, script.runAsLong());
+        assertEquals(5.436, (double) script.execute(), 0.0);
+    }
+
+    public void testRunAsDoubleWithAggregationValue() throws IOException {
+        AggregationScript script = compile("_value + 1").newInstance(null);
+        script.setNextAggregationValue(41.5);
+        script.setDocument(1);
+
+        assertEquals(42.5, script.runAsDouble(), 0.0);
+        assertEquals(42L, script.runAsLong());
+    }
+}
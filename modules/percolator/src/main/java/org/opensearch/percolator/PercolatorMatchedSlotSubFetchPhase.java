@@ -32,15 +32,11 @@
 package org.opensearch.percolator;
 
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.search.BooleanClause;
-import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
-import org.apache.lucene.search.Sort;
-import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
@@ -53,9 +49,8 @@ import org.opensearch.search.fetch.FetchSubPhaseProcessor;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static org.opensearch.percolator.PercolatorHighlightSubFetchPhase.locatePercolatorQuery;
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
@@ -99,19 +94,14 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
                         // This is not a document with a percolator field.
                         continue;
                     }
-                    query = pc.filterNestedDocs(query);
-                    IndexSearcher percolatorIndexSearcher = pc.percolateQuery.getPercolatorIndexSearcher();
-                    int memoryIndexMaxDoc = percolatorIndexSearcher.getIndexReader().maxDoc();
-                    TopDocs topDocs = percolatorIndexSearcher.search(query, memoryIndexMaxDoc, new Sort(SortField.FIELD_DOC));
-                    if (topDocs.totalHits.value() == 0) {
+                    List<Object> slots = pc.matchedSlots(query);
+                    if (slots.isEmpty()) {
                         // This hit didn't match with a percolate query,
                         // likely to happen when percolating multiple documents
                         continue;
                     }
-
-                    IntStream slots = convertTopDocsToSlots(topDocs, pc.rootDocsBySlot);
                     // _percolator_document_slot fields are document fields and should be under "fields" section in a hit
-                    hitContext.hit().setDocumentField(fieldName, new DocumentField(fieldName, slots.boxed().collect(Collectors.toList())));
+                    hitContext.hit().setDocumentField(fieldName, new DocumentField(fieldName, slots));
                 }
             }
         };
@@ -143,23 +133,33 @@ final class PercolatorMatchedSlotSubFetchPhase implements FetchSubPhase {
             return singlePercolateQuery ? FIELD_NAME_PREFIX : FIELD_NAME_PREFIX + "_" + percolateQuery.getName();
         }
 
-        Query filterNestedDocs(Query in) {
-            if (rootDocsBySlot != null) {
-                // Ensures that we filter out nested documents
-                return new BooleanQuery.Builder().add(in, BooleanClause.Occur.MUST)
-                    .add(Queries.newNonNestedFilter(), BooleanClause.Occur.FILTER)
-                    .build();
+        /**
+         * Returns the slots of the percolated documents that match the given query, in slot order.
+         */
+        List<Object> matchedSlots(Query query) throws IOException {
+            IndexSearcher percolatorIndexSearcher = percolateQuery.getPercolatorIndexSearcher();
+            Weight weight = percolatorIndexSearcher.createWeight(percolatorIndexSearcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+            // The percolated documents are indexed in slot order into a single segment, so iterating over the matches
+            // yields them in slot order, without collecting and sorting top docs
+            Scorer scorer = weight.scorer(percolatorIndexSearcher.getIndexReader().leaves().get(0));
+            if (scorer == null) {
+                return Collections.emptyList();
             }
-            return in;
-        }
-    }
-
-    static IntStream convertTopDocsToSlots(TopDocs topDocs, int[] rootDocsBySlot) {
-        IntStream stream = Arrays.stream(topDocs.scoreDocs).mapToInt(scoreDoc -> scoreDoc.doc);
-        if (rootDocsBySlot != null) {
-            stream = stream.map(docId -> Arrays.binarySearch(rootDocsBySlot, docId));
+            List<Object> slots = new ArrayList<>();
+            DocIdSetIterator iterator = scorer.iterator();
+            for (int docId = iterator.nextDoc(); docId != NO_MORE_DOCS; docId = iterator.nextDoc()) {
+                if (rootDocsBySlot == null) {
+                    slots.add(docId);
+                } else {
+                    // nested documents are skipped, root documents are mapped to their slot
+                    int slot = Arrays.binarySearch(rootDocsBySlot, docId);
+                    if (slot >= 0) {
+                        slots.add(slot);
+                    }
+                }
+            }
+            return slots;
         }
-        return stream;
     }
 
     static int[] buildRootDocsSlots(BitSet rootDocs) {
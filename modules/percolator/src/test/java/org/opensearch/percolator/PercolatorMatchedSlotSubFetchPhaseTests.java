@@ -33,20 +33,21 @@ package org.opensearch.percolator;
 
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.memory.MemoryIndex;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
-import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
-import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
@@ -55,8 +56,9 @@ import org.opensearch.search.fetch.FetchSubPhaseProcessor;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.Collections;
-import java.util.stream.IntStream;
+import java.util.List;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -160,46 +162,64 @@ public class PercolatorMatchedSlotSubFetchPhaseTests extends OpenSearchTestCase
         }
     }
 
-    public void testConvertTopDocsToSlots() {
-        ScoreDoc[] scoreDocs = new ScoreDoc[randomInt(128)];
-        for (int i = 0; i < scoreDocs.length; i++) {
-            scoreDocs[i] = new ScoreDoc(i, 1f);
+    public void testMatchedSlots() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (String value : new String[] { "a", "b", "a", "c", "a" }) {
+                    indexWriter.addDocument(rootDocument(value));
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                PercolatorMatchedSlotSubFetchPhase.PercolateContext context = percolateContext(new IndexSearcher(reader));
+                assertEquals(List.of(0, 2, 4), context.matchedSlots(new TermQuery(new Term("field", "a"))));
+                assertEquals(List.of(3), context.matchedSlots(new TermQuery(new Term("field", "c"))));
+                assertEquals(List.of(), context.matchedSlots(new TermQuery(new Term("field", "d"))));
+            }
         }
+    }
 
-        TopDocs topDocs = new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
-        IntStream stream = PercolatorMatchedSlotSubFetchPhase.convertTopDocsToSlots(topDocs, null);
-
-        int[] result = stream.toArray();
-        assertEquals(scoreDocs.length, result.length);
-        for (int i = 0; i < scoreDocs.length; i++) {
-            assertEquals(scoreDocs[i].doc, result[i]);
+    public void testMatchedSlotsWithNestedDocs() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                // the nested documents of each slot are indexed before their root document
+                indexWriter.addDocuments(List.of(nestedDocument("a"), rootDocument("x")));
+                indexWriter.addDocuments(List.of(rootDocument("a")));
+                indexWriter.addDocuments(List.of(nestedDocument("a"), nestedDocument("b"), rootDocument("a")));
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(1, reader.leaves().size());
+                PercolatorMatchedSlotSubFetchPhase.PercolateContext context = percolateContext(new IndexSearcher(reader));
+                // matching nested documents are not slots
+                assertEquals(List.of(1, 2), context.matchedSlots(new TermQuery(new Term("field", "a"))));
+                assertEquals(List.of(0), context.matchedSlots(new TermQuery(new Term("field", "x"))));
+                assertEquals(List.of(), context.matchedSlots(new TermQuery(new Term("field", "b"))));
+            }
         }
     }
 
-    public void testConvertTopDocsToSlots_nestedDocs() {
-        ScoreDoc[] scoreDocs = new ScoreDoc[5];
-        scoreDocs[0] = new ScoreDoc(2, 1f);
-        scoreDocs[1] = new ScoreDoc(5, 1f);
-        scoreDocs[2] = new ScoreDoc(8, 1f);
-        scoreDocs[3] = new ScoreDoc(11, 1f);
-        scoreDocs[4] = new ScoreDoc(14, 1f);
-        TopDocs topDocs = new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
-
-        FixedBitSet bitSet = new FixedBitSet(15);
-        bitSet.set(2);
-        bitSet.set(5);
-        bitSet.set(8);
-        bitSet.set(11);
-        bitSet.set(14);
-
-        int[] rootDocsBySlot = PercolatorMatchedSlotSubFetchPhase.buildRootDocsSlots(bitSet);
-        int[] result = PercolatorMatchedSlotSubFetchPhase.convertTopDocsToSlots(topDocs, rootDocsBySlot).toArray();
-        assertEquals(scoreDocs.length, result.length);
-        assertEquals(0, result[0]);
-        assertEquals(1, result[1]);
-        assertEquals(2, result[2]);
-        assertEquals(3, result[3]);
-        assertEquals(4, result[4]);
+    private static PercolatorMatchedSlotSubFetchPhase.PercolateContext percolateContext(IndexSearcher percolatorIndexSearcher)
+        throws IOException {
+        PercolateQuery percolateQuery = new PercolateQuery(
+            "_name",
+            ctx -> docId -> null,
+            Collections.emptyList(),
+            new MatchAllDocsQuery(),
+            percolatorIndexSearcher,
+            null,
+            new MatchNoDocsQuery()
+        );
+        return new PercolatorMatchedSlotSubFetchPhase.PercolateContext(percolateQuery, true);
     }
 
+    private static Document rootDocument(String value) {
+        Document document = nestedDocument(value);
+        document.add(new NumericDocValuesField(SeqNoFieldMapper.PRIMARY_TERM_NAME, 0));
+        return document;
+    }
+
+    private static Document nestedDocument(String value) {
+        Document document = new Document();
+        document.add(new StringField("field", value, Field.Store.NO));
+        return document;
+    }
 }
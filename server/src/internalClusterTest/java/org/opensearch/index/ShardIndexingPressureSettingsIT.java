@@ -136,9 +136,9 @@ public class ShardIndexingPressureSettingsIT extends OpenSearchIntegTestCase {
             .getShardIndexingPressure();
         assertFalse(shardIndexingPressure.isShardIndexingPressureEnabled());
         assertNull(shardIndexingPressure.coldStats().getIndexingPressureShardStats(shardId));
-        assertEquals(bulkRequest.ramBytesUsed(), coordinatingNodeLimits.totalCoordinatingBytes.get());
-        assertEquals(bulkShardRequestSize, primaryNodeLimits.totalPrimaryBytes.get());
-        assertEquals(bulkShardRequestSize, replicaNodeLimits.totalReplicaBytes.get());
+        assertEquals(bulkRequest.ramBytesUsed(), coordinatingNodeLimits.totalCoordinatingBytes.sum());
+        assertEquals(bulkShardRequestSize, primaryNodeLimits.totalPrimaryBytes.sum());
+        assertEquals(bulkShardRequestSize, replicaNodeLimits.totalReplicaBytes.sum());
 
         // Enable the setting for shard indexing pressure as true
         ClusterUpdateSettingsRequest updateSettingsRequest = new ClusterUpdateSettingsRequest();
@@ -172,9 +172,9 @@ public class ShardIndexingPressureSettingsIT extends OpenSearchIntegTestCase {
         assertEquals(bulkShardRequestSize, primaryShardTracker.getPrimaryOperationTracker().getStatsTracker().getTotalBytes());
         assertEquals(bulkShardRequestSize, replicaShardTracker.getReplicaOperationTracker().getStatsTracker().getTotalBytes());
 
-        assertEquals(bulkRequest.ramBytesUsed() + bulkShardRequestSize, coordinatingNodeLimits.totalCoordinatingBytes.get());
-        assertEquals(2 * bulkShardRequestSize, primaryNodeLimits.totalPrimaryBytes.get());
-        assertEquals(2 * bulkShardRequestSize, replicaNodeLimits.totalReplicaBytes.get());
+        assertEquals(bulkRequest.ramBytesUsed() + bulkShardRequestSize, coordinatingNodeLimits.totalCoordinatingBytes.sum());
+        assertEquals(2 * bulkShardRequestSize, primaryNodeLimits.totalPrimaryBytes.sum());
+        assertEquals(2 * bulkShardRequestSize, replicaNodeLimits.totalReplicaBytes.sum());
 
         // Disable the setting again for shard indexing pressure as true
         updateSettingsRequest = new ClusterUpdateSettingsRequest();
@@ -197,9 +197,9 @@ public class ShardIndexingPressureSettingsIT extends OpenSearchIntegTestCase {
         assertEquals(bulkShardRequestSize, primaryShardTracker.getPrimaryOperationTracker().getStatsTracker().getTotalBytes());
         assertEquals(bulkShardRequestSize, replicaShardTracker.getReplicaOperationTracker().getStatsTracker().getTotalBytes());
 
-        assertEquals(2 * bulkRequest.ramBytesUsed() + bulkShardRequestSize, coordinatingNodeLimits.totalCoordinatingBytes.get());
-        assertEquals(3 * bulkShardRequestSize, primaryNodeLimits.totalPrimaryBytes.get());
-        assertEquals(3 * bulkShardRequestSize, replicaNodeLimits.totalReplicaBytes.get());
+        assertEquals(2 * bulkRequest.ramBytesUsed() + bulkShardRequestSize, coordinatingNodeLimits.totalCoordinatingBytes.sum());
+        assertEquals(3 * bulkShardRequestSize, primaryNodeLimits.totalPrimaryBytes.sum());
+        assertEquals(3 * bulkShardRequestSize, replicaNodeLimits.totalReplicaBytes.sum());
     }
 
     public void testShardIndexingPressureNodeLimitUpdateSetting() throws Exception {
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@OpenSearchIntegTestCase.SuiteScopeTestCase
+public class TwoPhaseTermsIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX = "idx";
+    private static final String SMALL_INDEX = "small_idx";
+    private static final int NUM_SHARDS = 4;
+
+    private static final Map<String, Long> expectedCounts = new HashMap<>();
+
+    @Override
+    public void setupSuiteScopeCluster() throws Exception {
+        assertAcked(
+            prepareCreate(INDEX).setMapping("s", "type=keyword", "l", "type=long")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, NUM_SHARDS)
+                        .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                )
+        );
+        List<IndexRequestBuilder> builders = new ArrayList<>();
+        int numTerms = randomIntBetween(20, 50);
+        for (int term = 0; term < numTerms; term++) {
+            // each term is skewed towards a single shard so that the shard top lists disagree
+            int skewedShard = randomIntBetween(0, NUM_SHARDS - 1);
+            for (int shard = 0; shard < NUM_SHARDS; shard++) {
+                int count = shard == skewedShard ? randomIntBetween(5, 30) : randomIntBetween(0, 5);
+                for (int i = 0; i < count; i++) {
+                    builders.add(
+                        client().prepareIndex(INDEX)
+                            .setRouting(Integer.toString(shard))
+                            .setSource(jsonBuilder().startObject().field("s", "term" + term).field("l", term).endObject())
+                    );
+                }
+                expectedCounts.merge("term" + term, (long) count, Long::sum);
+            }
+        }
+
+        // few enough terms for the first round to be exact
+        assertAcked(
+            prepareCreate(SMALL_INDEX).setMapping("s", "type=keyword", "v", "type=long")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, NUM_SHARDS)
+                        .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                )
+        );
+        Map<String, Integer> smallCounts = Map.of("a", 5, "b", 3, "c", 1);
+        for (Map.Entry<String, Integer> entry : smallCounts.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                builders.add(
+                    client().prepareIndex(SMALL_INDEX)
+                        .setSource(jsonBuilder().startObject().field("s", entry.getKey()).field("v", 2).endObject())
+                );
+            }
+        }
+        indexRandom(true, builders);
+        ensureSearchable();
+    }
+
+    public void testStringTerms() {
+        assertExactCounts("s");
+    }
+
+    public void testLongTerms() {
+        assertExactCounts("l");
+    }
+
+    public void testSubAggregationsAndMinDocCountWhenFirstRoundIsExact() {
+        SearchResponse response = client().prepareSearch(SMALL_INDEX)
+            .setSize(0)
+            .addAggregation(terms("terms").field("s").size(10).minDocCount(3).twoPhase(true).subAggregation(sum("sum").field("v")))
+            .get();
+        assertSearchResponse(response);
+
+        Terms terms = response.getAggregations().get("terms");
+        assertThat(terms.getBuckets().size(), equalTo(2));
+        assertThat(terms.getBuckets().get(0).getKeyAsString(), equalTo("a"));
+        assertThat(terms.getBuckets().get(0).getDocCount(), equalTo(5L));
+        Sum sum = terms.getBuckets().get(0).getAggregations().get("sum");
+        assertThat(sum.getValue(), equalTo(10.0));
+        assertThat(terms.getBuckets().get(1).getKeyAsString(), equalTo("b"));
+        assertThat(terms.getBuckets().get(1).getDocCount(), equalTo(3L));
+        sum = terms.getBuckets().get(1).getAggregations().get("sum");
+        assertThat(sum.getValue(), equalTo(6.0));
+        // the term below min_doc_count is not returned
+        assertNull(terms.getBucketByKey("c"));
+    }
+
+    private void assertExactCounts(String field) {
+        int size = randomIntBetween(1, 5);
+        SearchResponse response = client().prepareSearch(INDEX)
+            .setSize(0)
+            .addAggregation(terms("terms").field(field).size(size).shardSize(size).showTermDocCountError(true).twoPhase(true))
+            .get();
+        assertSearchResponse(response);
+
+        Terms terms = response.getAggregations().get("terms");
+        assertThat(terms.getBuckets().size(), equalTo(size));
+        long previous = Long.MAX_VALUE;
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            String key = field.equals("s") ? bucket.getKeyAsString() : "term" + bucket.getKeyAsString();
+            // the second round computes the exact counts of the candidates
+            assertThat(bucket.getDocCount(), equalTo(expectedCounts.get(key)));
+            assertThat(bucket.getDocCountError(), equalTo(0L));
+            assertThat(bucket.getDocCount(), lessThanOrEqualTo(previous));
+            previous = bucket.getDocCount();
+        }
+        long lowest = previous;
+        if (terms.getDocCountError() == 0) {
+            // no other term can have a higher count than the returned ones
+            for (Map.Entry<String, Long> entry : expectedCounts.entrySet()) {
+                if (terms.getBucketByKey(field.equals("s") ? entry.getKey() : entry.getKey().substring("term".length())) == null) {
+                    assertThat(lowest, greaterThanOrEqualTo(entry.getValue()));
+                }
+            }
+        }
+        long total = expectedCounts.values().stream().mapToLong(Long::longValue).sum();
+        long returned = terms.getBuckets().stream().mapToLong(Terms.Bucket::getDocCount).sum();
+        assertThat(terms.getSumOfOtherDocCounts(), equalTo(total - returned));
+    }
+}
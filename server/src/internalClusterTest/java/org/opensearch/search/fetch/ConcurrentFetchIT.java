@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.ParameterizedStaticSettingsOpenSearchIntegTestCase;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ConcurrentFetchIT extends ParameterizedStaticSettingsOpenSearchIntegTestCase {
+
+    public ConcurrentFetchIT(Settings staticSettings) {
+        super(staticSettings);
+    }
+
+    @ParametersFactory
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(
+            new Object[] { Settings.builder().put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), false).build() },
+            new Object[] { Settings.builder().put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), true).build() }
+        );
+    }
+
+    public void testSameHitsAsSequentialFetch() throws Exception {
+        assertAcked(
+            prepareCreate("test").setSettings(
+                Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            ).setMapping("text", "type=text", "number", "type=long", "tag", "type=keyword")
+        );
+        ensureGreen();
+
+        int numDocs = 0;
+        int numSegments = randomIntBetween(2, 5);
+        for (int segment = 0; segment < numSegments; segment++) {
+            // refresh after each batch so that the hits are spread over several segments
+            int batchSize = randomIntBetween(20, 50);
+            for (int i = 0; i < batchSize; i++, numDocs++) {
+                client().prepareIndex("test")
+                    .setId(Integer.toString(numDocs))
+                    .setSource("text", "quick brown fox " + numDocs, "number", randomLong(), "tag", "tag" + (numDocs % 7))
+                    .get();
+            }
+            refresh("test");
+        }
+
+        SearchResponse sequential = search(numDocs);
+        try {
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().put(SearchService.CONCURRENT_FETCH_ENABLED.getKey(), true))
+                .get();
+            SearchResponse concurrent = search(numDocs);
+
+            assertHitCount(concurrent, numDocs);
+            assertThat(concurrent.getHits().getHits().length, equalTo(sequential.getHits().getHits().length));
+            for (int i = 0; i < sequential.getHits().getHits().length; i++) {
+                SearchHit expected = sequential.getHits().getAt(i);
+                SearchHit actual = concurrent.getHits().getAt(i);
+                assertThat(actual.getId(), equalTo(expected.getId()));
+                assertThat(actual.getSourceAsMap(), equalTo(expected.getSourceAsMap()));
+                assertThat(actual.getFields(), equalTo(expected.getFields()));
+                assertThat(actual.getHighlightFields(), equalTo(expected.getHighlightFields()));
+            }
+        } finally {
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(SearchService.CONCURRENT_FETCH_ENABLED.getKey()))
+                .get();
+        }
+    }
+
+    private SearchResponse search(int numDocs) {
+        return client().prepareSearch("test")
+            .setQuery(matchQuery("text", "fox"))
+            .addSort("number", SortOrder.ASC)
+            .setSize(numDocs)
+            .setFetchSource(new String[] { "text", "tag" }, null)
+            .addDocValueField("number")
+            .addFetchField("tag")
+            .highlighter(new HighlightBuilder().field("text"))
+            .get();
+    }
+}
@@ -35,18 +35,23 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.transport.Transport;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +80,8 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    @Nullable
+    private final CoordinatorRequestCache.Lookup cacheLookup;
 
     CanMatchPreFilterSearchPhase(
         Logger logger,
@@ -94,6 +101,48 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchResponse.Clusters clusters,
         SearchRequestContext searchRequestContext,
         Tracer tracer
+    ) {
+        this(
+            logger,
+            searchTransportService,
+            nodeIdToConnection,
+            aliasFilter,
+            concreteIndexBoosts,
+            indexRoutings,
+            executor,
+            request,
+            listener,
+            shardsIts,
+            timeProvider,
+            clusterState,
+            task,
+            phaseFactory,
+            clusters,
+            searchRequestContext,
+            tracer,
+            null
+        );
+    }
+
+    CanMatchPreFilterSearchPhase(
+        Logger logger,
+        SearchTransportService searchTransportService,
+        BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+        Map<String, AliasFilter> aliasFilter,
+        Map<String, Float> concreteIndexBoosts,
+        Map<String, Set<String>> indexRoutings,
+        Executor executor,
+        SearchRequest request,
+        ActionListener<SearchResponse> listener,
+        GroupShardsIterator<SearchShardIterator> shardsIts,
+        TransportSearchAction.SearchTimeProvider timeProvider,
+        ClusterState clusterState,
+        SearchTask task,
+        Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
+        SearchResponse.Clusters clusters,
+        SearchRequestContext searchRequestContext,
+        Tracer tracer,
+        @Nullable CoordinatorRequestCache.Lookup cacheLookup
     ) {
         // We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super(
@@ -119,6 +168,7 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.cacheLookup = cacheLookup;
     }
 
     @Override
@@ -132,18 +182,32 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchShardTarget shard,
         SearchActionListener<CanMatchResponse> listener
     ) {
-        getSearchTransport().sendCanMatch(
-            getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt),
-            getTask(),
-            listener
-        );
+        final ShardSearchRequest request = buildShardSearchRequest(shardIt);
+        // only ask the shards to check whether the response can be cached if the cache is enabled for this request
+        request.cacheOnCoordinator(cacheLookup != null);
+        getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()), request, getTask(), listener);
     }
 
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
-
-        return phaseFactory.apply(getIterator((CanMatchSearchPhaseResults) results, shardsIts));
+        final CanMatchSearchPhaseResults canMatchResults = (CanMatchSearchPhaseResults) results;
+        if (cacheLookup != null) {
+            final InternalSearchResponse cachedResponse = cacheLookup.get(
+                shardsIts,
+                canMatchResults.readerCopyIds,
+                canMatchResults.readerVersions
+            );
+            if (cachedResponse != null) {
+                // all shards still search the readers the response was computed from, skip the query and fetch phases
+                return new SearchPhase("coordinator_request_cache") {
+                    @Override
+                    public void run() {
+                        context.sendSearchResponse(cachedResponse, new AtomicArray<>(0));
+                    }
+                };
+            }
+        }
+        return phaseFactory.apply(getIterator(canMatchResults, shardsIts));
     }
 
     private GroupShardsIterator<SearchShardIterator> getIterator(
@@ -217,18 +281,24 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     private static final class CanMatchSearchPhaseResults extends SearchPhaseResults<CanMatchResponse> {
         private final FixedBitSet possibleMatches;
         private final MinAndMax<?>[] minAndMaxes;
+        private final String[] readerCopyIds;
+        private final long[] readerVersions;
         private int numPossibleMatches;
 
         CanMatchSearchPhaseResults(int size) {
             super(size);
             possibleMatches = new FixedBitSet(size);
             minAndMaxes = new MinAndMax[size];
+            readerCopyIds = new String[size];
+            readerVersions = new long[size];
+            Arrays.fill(readerVersions, -1);
         }
 
         @Override
         void consumeResult(CanMatchResponse result, Runnable next) {
             try {
                 consumeResult(result.getShardIndex(), result.canMatch(), result.estimatedMinAndMax());
+                consumeReaderVersion(result.getShardIndex(), result.readerCopyId(), result.readerVersion());
             } finally {
                 next.run();
             }
@@ -253,6 +323,11 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
             minAndMaxes[shardIndex] = minAndMax;
         }
 
+        synchronized void consumeReaderVersion(int shardIndex, String readerCopyId, long readerVersion) {
+            readerCopyIds[shardIndex] = readerCopyId;
+            readerVersions[shardIndex] = readerVersion;
+        }
+
         synchronized int getNumPossibleMatches() {
             return numPossibleMatches;
         }
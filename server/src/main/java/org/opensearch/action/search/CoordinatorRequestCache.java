@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.InternalSearchResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A bounded, node level cache of the search responses reduced by the coordinating node.
+ * <p>
+ * The shard level request cache saves the shards from executing the same request again, but the coordinating node still
+ * fans out to every shard and reduces their results. For requests that explicitly opted into the request cache, shards
+ * report their copy, identified by its allocation id and history UUID, and the version of its reader in the can match
+ * phase. The reduced response is cached under the request and the reader versions of all the shard copies it was
+ * computed from. An identical request that finds the same copies and reader versions is answered without executing
+ * the query and fetch phases.
+ *
+ * @opensearch.internal
+ */
+public final class CoordinatorRequestCache {
+
+    private static final Logger logger = LogManager.getLogger(CoordinatorRequestCache.class);
+
+    /**
+     * The maximum memory used by the cache, disabled by default.
+     */
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.memorySizeSetting(
+        "search.coordinator_request_cache.size",
+        new ByteSizeValue(0),
+        Property.NodeScope
+    );
+
+    private final Cache<BytesReference, BytesReference> cache;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    CoordinatorRequestCache(long maxWeightInBytes, NamedWriteableRegistry namedWriteableRegistry) {
+        this.cache = CacheBuilder.<BytesReference, BytesReference>builder()
+            .setMaximumWeight(maxWeightInBytes)
+            .weigher((key, response) -> key.length() + response.length())
+            .build();
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Creates the cache configured by the node settings, or returns {@code null} if it is disabled.
+     */
+    public static CoordinatorRequestCache create(Settings settings, NamedWriteableRegistry namedWriteableRegistry) {
+        long size = SIZE_SETTING.get(settings).getBytes();
+        return size > 0 ? new CoordinatorRequestCache(size, namedWriteableRegistry) : null;
+    }
+
+    /**
+     * Returns whether the response to the given request may be cached, which requires the request to explicitly opt into
+     * the request cache. Requests that keep a reader open or whose response depends on more than the shard readers are
+     * never cached.
+     */
+    static boolean canCache(SearchRequest request) {
+        return Boolean.TRUE.equals(request.requestCache())
+            && request.searchType() == SearchType.QUERY_THEN_FETCH
+            && request.scroll() == null
+            && request.pointInTimeBuilder() == null
+            && (request.source() == null || request.source().profile() == false);
+    }
+
+    /**
+     * Returns the lookup of the response to the given request, or {@code null} if it can't be cached.
+     */
+    Lookup lookup(SearchRequest request, Map<String, AliasFilter> aliasFilter) {
+        return canCache(request) ? new Lookup(request, aliasFilter) : null;
+    }
+
+    long count() {
+        return cache.count();
+    }
+
+    /**
+     * The lookup of the response to a single search request. The key of the response is only known once the can match
+     * phase has collected the reader versions of the shards.
+     *
+     * @opensearch.internal
+     */
+    final class Lookup {
+        private final SearchRequest request;
+        private final Map<String, AliasFilter> aliasFilter;
+        private volatile BytesReference key;
+
+        private Lookup(SearchRequest request, Map<String, AliasFilter> aliasFilter) {
+            this.request = request;
+            this.aliasFilter = aliasFilter;
+        }
+
+        /**
+         * Returns the cached response for the given shard copies and reader versions, or {@code null} if there is none in
+         * which case the response will be cached once it is received by the listener returned by {@link #wrap}.
+         */
+        InternalSearchResponse get(GroupShardsIterator<SearchShardIterator> shardsIts, String[] copyIds, long[] readerVersions) {
+            try {
+                final BytesReference key = buildKey(shardsIts, copyIds, readerVersions);
+                if (key == null) {
+                    return null;
+                }
+                final BytesReference cached = cache.get(key);
+                if (cached == null) {
+                    this.key = key;
+                    return null;
+                }
+                try (StreamInput in = new NamedWriteableAwareStreamInput(cached.streamInput(), namedWriteableRegistry)) {
+                    return new InternalSearchResponse(in);
+                }
+            } catch (IOException e) {
+                logger.warn("failed to read the coordinator request cache", e);
+                return null;
+            }
+        }
+
+        /**
+         * Wraps the given listener so that the response it receives is cached if it was not served from the cache and
+         * all shards responded successfully.
+         */
+        ActionListener<SearchResponse> wrap(ActionListener<SearchResponse> listener) {
+            return ActionListener.wrap(response -> {
+                put(response);
+                listener.onResponse(response);
+            }, listener::onFailure);
+        }
+
+        private void put(SearchResponse response) {
+            final BytesReference key = this.key;
+            if (key == null
+                || response.getSuccessfulShards() != response.getTotalShards()
+                || response.isTimedOut()
+                || response.getInternalResponse() instanceof InternalSearchResponse == false) {
+                return;
+            }
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                ((InternalSearchResponse) response.getInternalResponse()).writeTo(out);
+                cache.put(key, out.bytes());
+            } catch (IOException e) {
+                logger.warn("failed to write the coordinator request cache", e);
+            }
+        }
+
+        private BytesReference buildKey(GroupShardsIterator<SearchShardIterator> shardsIts, String[] copyIds, long[] readerVersions)
+            throws IOException {
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.writeOptionalWriteable(request.source());
+                int i = 0;
+                for (SearchShardIterator shardIt : shardsIts) {
+                    // only local shards that reported the version of their reader can be part of the key
+                    if (shardIt.getClusterAlias() != null || copyIds[i] == null || readerVersions[i] < 0) {
+                        return null;
+                    }
+                    shardIt.shardId().writeTo(out);
+                    // reader versions are only comparable within the same copy, which node ids don't identify across restarts
+                    out.writeString(copyIds[i]);
+                    out.writeZLong(readerVersions[i]);
+                    out.writeOptionalWriteable(aliasFilter.get(shardIt.shardId().getIndex().getUUID()));
+                    i++;
+                }
+                return out.bytes();
+            }
+        }
+    }
+}
@@ -120,6 +120,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -177,6 +178,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     private final SearchPipelineService searchPipelineService;
     private final SearchRequestOperationsCompositeListenerFactory searchRequestOperationsCompositeListenerFactory;
     private final Tracer tracer;
+    @Nullable
+    private final CoordinatorRequestCache coordinatorRequestCache;
 
     private final MetricsRegistry metricsRegistry;
 
@@ -222,6 +225,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.searchRequestOperationsCompositeListenerFactory = searchRequestOperationsCompositeListenerFactory;
         this.tracer = tracer;
         this.taskResourceTrackingService = taskResourceTrackingService;
+        this.coordinatorRequestCache = CoordinatorRequestCache.create(clusterService.getSettings(), namedWriteableRegistry);
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -323,9 +327,41 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 e -> {}
             );
         }
+        TwoPhaseTermsSearch twoPhaseTermsSearch = TwoPhaseTermsSearch.create(searchRequest);
+        if (twoPhaseTermsSearch != null) {
+            executeTwoPhaseTerms(task, twoPhaseTermsSearch, listener);
+            return;
+        }
         executeRequest(task, searchRequest, this::searchAsyncAction, listener);
     }
 
+    private void executeTwoPhaseTerms(Task task, TwoPhaseTermsSearch twoPhaseTermsSearch, ActionListener<SearchResponse> listener) {
+        // the second round is built from the first round request as transformed by the search pipeline
+        final AtomicReference<SearchRequest> firstRoundRequest = new AtomicReference<>();
+        executeRequest(
+            task,
+            twoPhaseTermsSearch.firstRoundRequest(),
+            firstRoundRequest::set,
+            this::searchAsyncAction,
+            ActionListener.wrap(firstRound -> {
+                SearchRequest secondRoundRequest = twoPhaseTermsSearch.secondRoundRequest(firstRoundRequest.get(), firstRound);
+                if (secondRoundRequest == null) {
+                    listener.onResponse(twoPhaseTermsSearch.merge(firstRound, null));
+                    return;
+                }
+                executeRequest(
+                    task,
+                    secondRoundRequest,
+                    this::searchAsyncAction,
+                    ActionListener.wrap(
+                        secondRound -> listener.onResponse(twoPhaseTermsSearch.merge(firstRound, secondRound)),
+                        listener::onFailure
+                    )
+                );
+            }, listener::onFailure)
+        );
+    }
+
     /**
      * The single phase search action.
      *
@@ -423,6 +459,16 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         SearchRequest originalSearchRequest,
         SearchAsyncActionProvider searchAsyncActionProvider,
         ActionListener<SearchResponse> originalListener
+    ) {
+        executeRequest(task, originalSearchRequest, transformedRequest -> {}, searchAsyncActionProvider, originalListener);
+    }
+
+    private void executeRequest(
+        Task task,
+        SearchRequest originalSearchRequest,
+        Consumer<SearchRequest> onRequestTransformed,
+        SearchAsyncActionProvider searchAsyncActionProvider,
+        ActionListener<SearchResponse> originalListener
     ) {
         final long relativeStartNanos = System.nanoTime();
         final SearchTimeProvider timeProvider = new SearchTimeProvider(
@@ -467,6 +513,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             }
 
             ActionListener<SearchRequest> requestTransformListener = ActionListener.wrap(sr -> {
+                onRequestTransformed.accept(sr);
 
                 ActionListener<SearchSourceBuilder> rewriteListener = buildRewriteListener(
                     sr,
@@ -1099,12 +1146,17 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             searchTransportService::getConnection
         );
         final Executor asyncSearchExecutor = asyncSearchExecutor(concreteLocalIndices, clusterState);
-        final boolean preFilterSearchShards = shouldPreFilterSearchShards(
-            clusterState,
-            searchRequest,
-            concreteLocalIndices,
-            localShardIterators.size() + remoteShardIterators.size()
-        );
+        // the can match phase also collects the reader versions that the coordinator request cache is keyed on
+        final boolean cacheOnCoordinator = coordinatorRequestCache != null
+            && remoteShardIterators.isEmpty()
+            && CoordinatorRequestCache.canCache(searchRequest);
+        final boolean preFilterSearchShards = cacheOnCoordinator
+            || shouldPreFilterSearchShards(
+                clusterState,
+                searchRequest,
+                concreteLocalIndices,
+                localShardIterators.size() + remoteShardIterators.size()
+            );
         searchAsyncActionProvider.asyncSearchAction(
             task,
             searchRequest,
@@ -1226,6 +1278,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         SearchRequestContext searchRequestContext
     ) {
         if (preFilter) {
+            final CoordinatorRequestCache.Lookup cacheLookup = coordinatorRequestCache == null
+                ? null
+                : coordinatorRequestCache.lookup(searchRequest, aliasFilter);
+            final ActionListener<SearchResponse> searchListener = cacheLookup == null ? listener : cacheLookup.wrap(listener);
             return new CanMatchPreFilterSearchPhase(
                 logger,
                 searchTransportService,
@@ -1235,7 +1291,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 indexRoutings,
                 executor,
                 searchRequest,
-                listener,
+                searchListener,
                 shardIterators,
                 timeProvider,
                 clusterState,
@@ -1252,7 +1308,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                         aliasFilter,
                         concreteIndexBoosts,
                         indexRoutings,
-                        listener,
+                        searchListener,
                         false,
                         threadPool,
                         clusters,
@@ -1261,7 +1317,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 ),
                 clusters,
                 searchRequestContext,
-                tracer
+                tracer,
+                cacheLookup
             );
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.terms.TwoPhaseTerms;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.pipeline.SearchPipelineService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes the top level {@code terms} aggregations that are flagged with
+ * {@link TermsAggregationBuilder#twoPhase(boolean)} in two rounds of search requests. The first round is the original
+ * search request, with the candidate terms of these aggregations collected instead of the final ones. The second round
+ * only runs the aggregations whose candidates need exact counts, restricted to these candidates, and its results
+ * replace the ones of the first round.
+ * <p>
+ * The rounds are two complete search requests rather than an extra search phase, since the candidates of the second
+ * round are only known once the first round is reduced. The search pipeline of the request runs with the first round
+ * only, so that its processors see the request and the response once, and the second round is built from the first
+ * round request as transformed by the pipeline.
+ *
+ * @opensearch.internal
+ */
+final class TwoPhaseTermsSearch {
+
+    private final SearchRequest request;
+    private final Map<String, TermsAggregationBuilder> twoPhaseAggregations;
+
+    private TwoPhaseTermsSearch(SearchRequest request, Map<String, TermsAggregationBuilder> twoPhaseAggregations) {
+        this.request = request;
+        this.twoPhaseAggregations = twoPhaseAggregations;
+    }
+
+    /**
+     * Returns the two phase execution of the given request, or {@code null} if it has no aggregation to execute in two
+     * rounds.
+     */
+    static TwoPhaseTermsSearch create(SearchRequest request) {
+        SearchSourceBuilder source = request.source();
+        if (request.scroll() != null || source == null || source.aggregations() == null || source.profile()) {
+            return null;
+        }
+        // sibling pipeline aggregations would see the candidates of the first round
+        if (source.aggregations().getPipelineAggregatorFactories().isEmpty() == false) {
+            return null;
+        }
+        Map<String, TermsAggregationBuilder> twoPhaseAggregations = new HashMap<>();
+        for (AggregationBuilder aggregation : source.aggregations().getAggregatorFactories()) {
+            if (TwoPhaseTerms.isTwoPhase(aggregation)) {
+                twoPhaseAggregations.put(aggregation.getName(), (TermsAggregationBuilder) aggregation);
+            }
+        }
+        return twoPhaseAggregations.isEmpty() ? null : new TwoPhaseTermsSearch(request, twoPhaseAggregations);
+    }
+
+    /**
+     * The request of the first round.
+     */
+    SearchRequest firstRoundRequest() {
+        AggregatorFactories.Builder aggregations = AggregatorFactories.builder();
+        for (AggregationBuilder aggregation : request.source().aggregations().getAggregatorFactories()) {
+            TermsAggregationBuilder twoPhase = twoPhaseAggregations.get(aggregation.getName());
+            aggregations.addAggregator(twoPhase == null ? aggregation : TwoPhaseTerms.firstRound(twoPhase));
+        }
+        SearchRequest firstRound = new SearchRequest(request);
+        firstRound.source(request.source().shallowCopy(aggregations));
+        return firstRound;
+    }
+
+    /**
+     * The request of the second round, or {@code null} if the results of the first round are final. The second round
+     * searches the same documents as the first round request, as transformed by the search pipeline.
+     */
+    SearchRequest secondRoundRequest(SearchRequest firstRoundRequest, SearchResponse firstRound) {
+        if (firstRoundRequest == null
+            || firstRoundRequest.source() == null
+            || firstRound.getFailedShards() > 0
+            || firstRound.getAggregations() instanceof InternalAggregations == false) {
+            return null;
+        }
+        AggregatorFactories.Builder aggregations = AggregatorFactories.builder();
+        for (TermsAggregationBuilder twoPhase : twoPhaseAggregations.values()) {
+            InternalAggregation result = firstRound.getAggregations().get(twoPhase.getName());
+            TermsAggregationBuilder secondRound = result == null ? null : TwoPhaseTerms.secondRound(twoPhase, result);
+            if (secondRound != null) {
+                aggregations.addAggregator(secondRound);
+            }
+        }
+        if (aggregations.count() == 0) {
+            return null;
+        }
+        // the search pipeline of the request already ran with the first round, its processors must only run once
+        SearchRequest secondRoundRequest = new SearchRequest(firstRoundRequest).pipeline(SearchPipelineService.NOOP_PIPELINE_ID);
+        SearchSourceBuilder source = firstRoundRequest.source().shallowCopy(aggregations).size(0).trackTotalHits(false);
+        secondRoundRequest.source(source.highlighter(null).suggest(null).searchPipelineSource(null));
+        return secondRoundRequest;
+    }
+
+    /**
+     * The final response, made of the first round response with the aggregations of the second round. Fails if the
+     * second round of an aggregation whose first round result is not final did not complete.
+     */
+    SearchResponse merge(SearchResponse firstRound, SearchResponse secondRound) {
+        if (firstRound.getAggregations() instanceof InternalAggregations == false) {
+            return firstRound;
+        }
+        boolean secondRoundComplete = secondRound != null
+            && secondRound.getFailedShards() == 0
+            && secondRound.isTimedOut() == false
+            && secondRound.getAggregations() instanceof InternalAggregations;
+        List<InternalAggregation> aggregations = new ArrayList<>();
+        for (InternalAggregation aggregation : ((InternalAggregations) firstRound.getAggregations()).copyResults()) {
+            TermsAggregationBuilder twoPhase = twoPhaseAggregations.get(aggregation.getName());
+            if (twoPhase != null) {
+                InternalAggregation refined = secondRoundComplete ? secondRound.getAggregations().get(aggregation.getName()) : null;
+                if (refined == null && TwoPhaseTerms.requiresSecondRound(twoPhase, aggregation)) {
+                    // the buckets of the first round have no sub-aggregations and ignore min_doc_count
+                    SearchResponse failed = secondRound == null ? firstRound : secondRound;
+                    throw new SearchPhaseExecutionException(
+                        "two_phase_terms",
+                        "the second round of the two phase terms aggregation [" + aggregation.getName() + "] did not complete",
+                        failed.getShardFailures()
+                    );
+                }
+                aggregation = TwoPhaseTerms.merge(twoPhase, aggregation, refined);
+            }
+            aggregations.add(aggregation);
+        }
+        SearchResponseSections sections = firstRound.getInternalResponse();
+        InternalSearchResponse internalResponse = new InternalSearchResponse(
+            sections.hits(),
+            InternalAggregations.from(aggregations),
+            sections.suggest(),
+            null,
+            sections.timedOut(),
+            sections.terminatedEarly(),
+            sections.getNumReducePhases(),
+            sections.getSearchExtBuilders(),
+            sections.getProcessorResult()
+        );
+        long tookInMillis = firstRound.getTook().millis() + (secondRound == null ? 0 : secondRound.getTook().millis());
+        return new SearchResponse(
+            internalResponse,
+            firstRound.getScrollId(),
+            firstRound.getTotalShards(),
+            firstRound.getSuccessfulShards(),
+            firstRound.getSkippedShards(),
+            tookInMillis,
+            firstRound.getPhaseTook(),
+            firstRound.getShardFailures(),
+            firstRound.getClusters(),
+            firstRound.pointInTimeId()
+        );
+    }
+}
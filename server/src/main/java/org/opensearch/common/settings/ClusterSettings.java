@@ -34,6 +34,7 @@ package org.opensearch.common.settings;
 import org.apache.logging.log4j.LogManager;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
+import org.opensearch.action.search.CoordinatorRequestCache;
 import org.opensearch.action.search.CreatePitController;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
@@ -118,6 +119,7 @@ import org.opensearch.index.ShardIndexingPressureSettings;
 import org.opensearch.index.ShardIndexingPressureStore;
 import org.opensearch.index.autoforcemerge.ForceMergeManagerSettings;
 import org.opensearch.index.compositeindex.CompositeIndexSettings;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
@@ -152,6 +154,7 @@ import org.opensearch.plugins.PluginsService;
 import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.CpuBasedAdmissionControllerSettings;
 import org.opensearch.ratelimitting.admissioncontrol.settings.IoBasedAdmissionControllerSettings;
+import org.opensearch.ratelimitting.admissioncontrol.settings.SearchCostBasedAdmissionControllerSettings;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.repositories.fs.FsRepository;
 import org.opensearch.rest.BaseRestHandler;
@@ -162,6 +165,7 @@ import org.opensearch.search.backpressure.settings.NodeDuressSettings;
 import org.opensearch.search.backpressure.settings.SearchBackpressureSettings;
 import org.opensearch.search.backpressure.settings.SearchShardTaskSettings;
 import org.opensearch.search.backpressure.settings.SearchTaskSettings;
+import org.opensearch.search.fetch.subphase.highlight.AnalyzedTextCache;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
@@ -461,6 +465,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSettings.PUBLISH_PORT_PROFILE,
                 TransportSettings.OLD_TRANSPORT_COMPRESS,
                 TransportSettings.TRANSPORT_COMPRESS,
+                TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
+                TransportSettings.TRANSPORT_COMPRESS_INCLUDE_ACTIONS,
+                TransportSettings.TRANSPORT_COMPRESS_EXCLUDE_ACTIONS,
                 TransportSettings.PING_SCHEDULE,
                 TransportSettings.TCP_CONNECT_TIMEOUT,
                 TransportSettings.CONNECT_TIMEOUT,
@@ -565,6 +572,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.INDICES_MAX_CLAUSE_COUNT_SETTING,
                 SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD,
                 SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED,
+                SearchService.CONCURRENT_FETCH_ENABLED,
+                AnalyzedTextCache.SIZE_SETTING,
+                CoordinatorRequestCache.SIZE_SETTING,
                 CreatePitController.PIT_INIT_KEEP_ALIVE,
                 Node.WRITE_PORTS_FILE_SETTING,
                 Node.NODE_NAME_SETTING,
@@ -775,6 +785,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IoBasedAdmissionControllerSettings.IO_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE,
                 IoBasedAdmissionControllerSettings.SEARCH_IO_USAGE_LIMIT,
                 IoBasedAdmissionControllerSettings.INDEXING_IO_USAGE_LIMIT,
+                SearchCostBasedAdmissionControllerSettings.SEARCH_COST_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE,
+                SearchCostBasedAdmissionControllerSettings.SEARCH_COST_BUDGET,
+                SearchCostBasedAdmissionControllerSettings.SEARCH_CHEAP_REQUEST_COST_LIMIT,
 
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
@@ -847,6 +860,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ForceMergeManagerSettings.DISK_THRESHOLD_PERCENTAGE_FOR_AUTO_FORCE_MERGE,
                 ForceMergeManagerSettings.JVM_THRESHOLD_PERCENTAGE_FOR_AUTO_FORCE_MERGE,
                 ForceMergeManagerSettings.CONCURRENCY_MULTIPLIER,
+                MergeCoordinator.MERGE_COORDINATOR_ENABLED,
+                MergeCoordinator.MERGE_COORDINATOR_MAX_MERGING_BYTES,
+                MergeCoordinator.MERGE_COORDINATOR_FORCED_MERGE_RATIO,
                 StreamTransportService.STREAM_TRANSPORT_REQ_TIMEOUT_SETTING
             )
         )
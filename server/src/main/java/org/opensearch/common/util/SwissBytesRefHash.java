@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Numbers;
+import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.common.hash.T1ha1;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.core.common.util.ByteArray;
+
+/**
+ * Specialized Swiss table implementation that maps a {@link BytesRef} key to a long ordinal.
+ *
+ * <p>
+ * Slots are organized in groups of eight, each with a packed word of control bytes holding a 7-bit tag of the stored
+ * keys, see {@link SwissTable}. A lookup matches the tag against all slots of a group at once, then compares the full
+ * stored hash of the (rare) candidates, and only compares the key bytes if the hashes are equal. This keeps the number of
+ * uncorrelated memory accesses per lookup low on high-cardinality keys, where {@link BytesRefHash} probes scattered slots.
+ * In exchange it uses more memory per entry, so the bucket ords still default to {@link BytesRefHash}.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public final class SwissBytesRefHash implements Releasable {
+    private static final long MAX_CAPACITY = 1L << 32;
+    private static final long DEFAULT_INITIAL_CAPACITY = 32;
+    private static final float DEFAULT_LOAD_FACTOR = 0.8f;
+    private static final BytesRefHash.Hasher DEFAULT_HASHER = key -> T1ha1.hash(key.bytes, key.offset, key.length);
+
+    /**
+     * Maximum load factor after which the capacity is doubled.
+     */
+    private final float loadFactor;
+
+    /**
+     * Calculates the hash of a {@link BytesRef} key.
+     */
+    private final BytesRefHash.Hasher hasher;
+
+    /**
+     * Utility class to allocate recyclable arrays.
+     */
+    private final BigArrays bigArrays;
+
+    /**
+     * Reusable BytesRef to read keys.
+     */
+    private final BytesRef scratch = new BytesRef();
+
+    /**
+     * Current number of groups of the hash table. This must be a power of two so that the home group
+     * can be identified quickly using bitmasks, thus avoiding expensive modulo or integer division.
+     */
+    private long groups;
+
+    /**
+     * Bitmask to identify the home group from a key's hash.
+     */
+    private long mask;
+
+    /**
+     * Size threshold after which the hash table needs to be doubled in capacity.
+     */
+    private long grow;
+
+    /**
+     * Current size of the hash table.
+     */
+    private long size;
+
+    /**
+     * Underlying array to store the control bytes, one word per group.
+     */
+    private LongArray control;
+
+    /**
+     * Underlying array to store the ordinals of the occupied slots.
+     *
+     * <p>
+     * Terminology: <code>slots[group * 8 + slot] = ordinal</code>
+     */
+    private LongArray slots;
+
+    /**
+     * Underlying array to store the starting offsets of keys.
+     *
+     * <p>
+     * Terminology:
+     * <pre>
+     *   offsets[ordinal] = starting offset (inclusive)
+     *   offsets[ordinal + 1] = ending offset (exclusive)
+     * </pre>
+     */
+    private LongArray offsets;
+
+    /**
+     * Underlying byte array to store the keys.
+     *
+     * <p>
+     * Terminology: <code>keys[start...end] = key</code>
+     */
+    private ByteArray keys;
+
+    /**
+     * Full hashes of the stored keys. They are compared before the key bytes to rule out tag collisions,
+     * and are used to speed up reinserts when doubling the capacity.
+     */
+    private LongArray hashes;
+
+    public SwissBytesRefHash(final BigArrays bigArrays) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_HASHER, bigArrays);
+    }
+
+    public SwissBytesRefHash(final long initialCapacity, final BigArrays bigArrays) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR, DEFAULT_HASHER, bigArrays);
+    }
+
+    public SwissBytesRefHash(
+        final long initialCapacity,
+        final float loadFactor,
+        final BytesRefHash.Hasher hasher,
+        final BigArrays bigArrays
+    ) {
+        assert initialCapacity > 0 : "initial capacity must be greater than 0";
+        assert loadFactor > 0 && loadFactor < 1 : "load factor must be between 0 and 1";
+
+        this.loadFactor = loadFactor;
+        this.hasher = hasher;
+        this.bigArrays = bigArrays;
+
+        final long capacity = Math.max(SwissTable.GROUP_SIZE, Numbers.nextPowerOfTwo((long) (initialCapacity / loadFactor)));
+        assert capacity <= MAX_CAPACITY : "required capacity too large";
+        groups = capacity / SwissTable.GROUP_SIZE;
+        mask = groups - 1;
+        grow = (long) (capacity * loadFactor);
+        size = 0;
+        try {
+            control = bigArrays.newLongArray(groups, false);
+            control.fill(0, groups, SwissTable.EMPTY_GROUP);
+            slots = bigArrays.newLongArray(capacity, false);
+            offsets = bigArrays.newLongArray(initialCapacity + 1, false);
+            offsets.set(0, 0);
+            keys = bigArrays.newByteArray(initialCapacity * 3, false);
+            hashes = bigArrays.newLongArray(initialCapacity, false);
+        } finally {
+            if (control == null || slots == null || offsets == null || keys == null || hashes == null) {
+                // it's important to close the arrays initialized above to prevent memory leak
+                Releasables.closeWhileHandlingException(control, slots, offsets, keys, hashes);
+            }
+        }
+    }
+
+    /**
+     * Adds the given key to the hash table and returns its ordinal.
+     * If the key exists already, it returns (-1 - ordinal).
+     */
+    public long add(final BytesRef key) {
+        final long hash = hasher.hash(key);
+        final long tag = SwissTable.tag(hash);
+
+        for (long group = hash & mask, probe = 0;; group = SwissTable.nextGroup(group, ++probe, mask)) {
+            final long word = control.get(group);
+            for (long matches = SwissTable.matchTag(word, tag); matches != 0; matches &= matches - 1) {
+                final long ordinal = slots.get(group * SwissTable.GROUP_SIZE + SwissTable.slot(matches));
+                if (hashes.get(ordinal) == hash && key.bytesEquals(get(ordinal, scratch))) {
+                    return -1 - ordinal;
+                }
+            }
+            final long empty = SwissTable.matchEmpty(word);
+            if (empty != 0) {
+                if (size >= grow) {
+                    grow();
+                    insert(hash, size);
+                } else {
+                    final int slot = SwissTable.slot(empty);
+                    control.set(group, SwissTable.setTag(word, slot, tag));
+                    slots.set(group * SwissTable.GROUP_SIZE + slot, size);
+                }
+                return append(key, hash);
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinal associated with the given key, or -1 if the key doesn't exist.
+     *
+     * <p>
+     * Groups are probed starting from the home group, using triangular probing so that every group is
+     * visited once the number of groups is a power of two, until a match or a group with an empty slot is found.
+     * Since keys are never removed, a key is absent as soon as a probed group still has an empty slot.
+     */
+    public long find(final BytesRef key) {
+        final long hash = hasher.hash(key);
+        final long tag = SwissTable.tag(hash);
+
+        for (long group = hash & mask, probe = 0;; group = SwissTable.nextGroup(group, ++probe, mask)) {
+            final long word = control.get(group);
+            for (long matches = SwissTable.matchTag(word, tag); matches != 0; matches &= matches - 1) {
+                final long ordinal = slots.get(group * SwissTable.GROUP_SIZE + SwissTable.slot(matches));
+                if (hashes.get(ordinal) == hash && key.bytesEquals(get(ordinal, scratch))) {
+                    return ordinal;
+                }
+            }
+            if (SwissTable.matchEmpty(word) != 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the key associated with the given ordinal.
+     * The result is undefined for an unused ordinal.
+     *
+     * <p>
+     * Beware that the content of the {@link BytesRef} may become invalid as soon as {@link #close()} is called
+     */
+    public BytesRef get(final long ordinal, final BytesRef dest) {
+        final long start = offsets.get(ordinal);
+        final int length = (int) (offsets.get(ordinal + 1) - start);
+        keys.get(start, length, dest);
+        return dest;
+    }
+
+    /**
+     * Returns the number of mappings in this hash table.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Stores the ordinal in the first empty slot on the probe sequence of the given hash.
+     */
+    private void insert(final long hash, final long ordinal) {
+        for (long group = hash & mask, probe = 0;; group = SwissTable.nextGroup(group, ++probe, mask)) {
+            final long word = control.get(group);
+            final long empty = SwissTable.matchEmpty(word);
+            if (empty != 0) {
+                final int slot = SwissTable.slot(empty);
+                control.set(group, SwissTable.setTag(word, slot, SwissTable.tag(hash)));
+                slots.set(group * SwissTable.GROUP_SIZE + slot, ordinal);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Appends the key in the keys' and offsets' tables.
+     */
+    private long append(final BytesRef key, final long hash) {
+        final long start = offsets.get(size);
+        final long end = start + key.length;
+        offsets = bigArrays.grow(offsets, size + 2);
+        offsets.set(size + 1, end);
+        keys = bigArrays.grow(keys, end);
+        keys.set(start, key.bytes, key.offset, key.length);
+        hashes = bigArrays.grow(hashes, size + 1);
+        hashes.set(size, hash);
+        return size++;
+    }
+
+    /**
+     * Grows the hash table by doubling its capacity and reinserting the previous values at their updated slots.
+     */
+    private void grow() {
+        // Ensure that the hash table doesn't grow too large.
+        assert groups * SwissTable.GROUP_SIZE < MAX_CAPACITY : "hash table already at the max capacity";
+
+        groups <<= 1;
+        mask = groups - 1;
+        final long capacity = groups * SwissTable.GROUP_SIZE;
+        grow = (long) (capacity * loadFactor);
+        control = bigArrays.grow(control, groups);
+        control.fill(0, groups, SwissTable.EMPTY_GROUP);
+        slots = bigArrays.grow(slots, capacity);
+
+        for (long ordinal = 0; ordinal < size; ordinal++) {
+            insert(hashes.get(ordinal), ordinal);
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(control, slots, offsets, keys, hashes);
+    }
+}
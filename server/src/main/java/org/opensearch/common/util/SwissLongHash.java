@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.Numbers;
+import org.opensearch.common.annotation.InternalApi;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+
+/**
+ * Specialized Swiss table implementation that maps a (primitive) long key to a long ordinal.
+ *
+ * <p>
+ * Slots are organized in groups of eight, each with a packed word of control bytes holding a 7-bit tag of the stored
+ * keys. A lookup matches the tag against all slots of a group at once, and only reads the keys of the (rare) slots whose
+ * tag matches, so most probes touch a single control word instead of scattered keys. See {@link SwissTable}. In exchange
+ * it uses more memory per entry, so the bucket ords still default to {@link ReorganizingLongHash}.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public class SwissLongHash implements Releasable {
+    private static final long MAX_CAPACITY = 1L << 32;
+    private static final long DEFAULT_INITIAL_CAPACITY = 32;
+    private static final float DEFAULT_LOAD_FACTOR = 0.8f;
+
+    /**
+     * Maximum load factor after which the capacity is doubled.
+     */
+    private final float loadFactor;
+
+    /**
+     * Utility class to allocate recyclable arrays.
+     */
+    private final BigArrays bigArrays;
+
+    /**
+     * Current number of groups of the hash table. This must be a power of two so that the home group
+     * can be identified quickly using bitmasks, thus avoiding expensive modulo or integer division.
+     */
+    private long groups;
+
+    /**
+     * Bitmask to identify the home group from a key's hash.
+     */
+    private long mask;
+
+    /**
+     * Size threshold after which the hash table needs to be doubled in capacity.
+     */
+    private long grow;
+
+    /**
+     * Current size of the hash table.
+     */
+    private long size;
+
+    /**
+     * Underlying array to store the control bytes, one word per group.
+     */
+    private LongArray control;
+
+    /**
+     * Underlying array to store the ordinals of the occupied slots.
+     *
+     * <p>
+     * Terminology: <code>slots[group * 8 + slot] = ordinal</code>
+     */
+    private LongArray slots;
+
+    /**
+     * Underlying array to store the keys.
+     *
+     * <p>
+     * Terminology: <code>keys[ordinal] = key</code>
+     */
+    private LongArray keys;
+
+    public SwissLongHash(final BigArrays bigArrays) {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, bigArrays);
+    }
+
+    public SwissLongHash(final long initialCapacity, final float loadFactor, final BigArrays bigArrays) {
+        assert initialCapacity > 0 : "initial capacity must be greater than 0";
+        assert loadFactor > 0 && loadFactor < 1 : "load factor must be between 0 and 1";
+
+        this.bigArrays = bigArrays;
+        this.loadFactor = loadFactor;
+
+        final long capacity = Math.max(SwissTable.GROUP_SIZE, Numbers.nextPowerOfTwo((long) (initialCapacity / loadFactor)));
+        assert capacity <= MAX_CAPACITY : "required capacity too large";
+        groups = capacity / SwissTable.GROUP_SIZE;
+        mask = groups - 1;
+        grow = (long) (capacity * loadFactor);
+        size = 0;
+        try {
+            control = bigArrays.newLongArray(groups, false);
+            control.fill(0, groups, SwissTable.EMPTY_GROUP);
+            slots = bigArrays.newLongArray(capacity, false);
+            keys = bigArrays.newLongArray(initialCapacity, false);
+        } finally {
+            if (control == null || slots == null || keys == null) {
+                // it's important to close the arrays initialized above to prevent memory leak
+                Releasables.closeWhileHandlingException(control, slots, keys);
+            }
+        }
+    }
+
+    /**
+     * Adds the given key to the hash table and returns its ordinal.
+     * If the key exists already, it returns (-1 - ordinal).
+     */
+    public long add(final long key) {
+        final long hash = hash(key);
+        final long tag = SwissTable.tag(hash);
+
+        for (long group = hash & mask, probe = 0;; group = SwissTable.nextGroup(group, ++probe, mask)) {
+            final long word = control.get(group);
+            for (long matches = SwissTable.matchTag(word, tag); matches != 0; matches &= matches - 1) {
+                final long ordinal = slots.get(group * SwissTable.GROUP_SIZE + SwissTable.slot(matches));
+                if (keys.get(ordinal) == key) {
+                    return -1 - ordinal;
+                }
+            }
+            final long empty = SwissTable.matchEmpty(word);
+            if (empty != 0) {
+                if (size >= grow) {
+                    grow();
+                    insert(hash, size);
+                } else {
+                    final int slot = SwissTable.slot(empty);
+                    control.set(group, SwissTable.setTag(word, slot, tag));
+                    slots.set(group * SwissTable.GROUP_SIZE + slot, size);
+                }
+                return append(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinal associated with the given key, or -1 if the key doesn't exist.
+     *
+     * <p>
+     * Groups are probed starting from the home group, using triangular probing so that every group is
+     * visited once the number of groups is a power of two, until a match or a group with an empty slot is found.
+     * Since keys are never removed, a key is absent as soon as a probed group still has an empty slot.
+     */
+    public long find(final long key) {
+        final long hash = hash(key);
+        final long tag = SwissTable.tag(hash);
+
+        for (long group = hash & mask, probe = 0;; group = SwissTable.nextGroup(group, ++probe, mask)) {
+            final long word = control.get(group);
+            for (long matches = SwissTable.matchTag(word, tag); matches != 0; matches &= matches - 1) {
+                final long ordinal = slots.get(group * SwissTable.GROUP_SIZE + SwissTable.slot(matches));
+                if (keys.get(ordinal) == key) {
+                    return ordinal;
+                }
+            }
+            if (SwissTable.matchEmpty(word) != 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the key associated with the given ordinal.
+     * The result is undefined for an unused ordinal.
+     */
+    public long get(final long ordinal) {
+        return keys.get(ordinal);
+    }
+
+    /**
+     * Returns the number of mappings in this hash table.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the hash for the given key.
+     * Visible for unit-tests.
+     */
+    long hash(final long key) {
+        return BitMixer.mix64(key);
+    }
+
+    /**
+     * Stores the ordinal in the first empty slot on the probe sequence of the given hash.
+     */
+    private void insert(final long hash, final long ordinal) {
+        for (long group = hash & mask, probe = 0;; group = SwissTable.nextGroup(group, ++probe, mask)) {
+            final long word = control.get(group);
+            final long empty = SwissTable.matchEmpty(word);
+            if (empty != 0) {
+                final int slot = SwissTable.slot(empty);
+                control.set(group, SwissTable.setTag(word, slot, SwissTable.tag(hash)));
+                slots.set(group * SwissTable.GROUP_SIZE + slot, ordinal);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Appends the key in the keys' table.
+     */
+    private long append(final long key) {
+        keys = bigArrays.grow(keys, size + 1);
+        keys.set(size, key);
+        return size++;
+    }
+
+    /**
+     * Grows the hash table by doubling its capacity and reinserting the keys.
+     */
+    private void grow() {
+        // Ensure that the hash table doesn't grow too large.
+        assert groups * SwissTable.GROUP_SIZE < MAX_CAPACITY : "hash table already at the max capacity";
+
+        groups <<= 1;
+        mask = groups - 1;
+        final long capacity = groups * SwissTable.GROUP_SIZE;
+        grow = (long) (capacity * loadFactor);
+        control = bigArrays.grow(control, groups);
+        control.fill(0, groups, SwissTable.EMPTY_GROUP);
+        slots = bigArrays.grow(slots, capacity);
+
+        for (long ordinal = 0; ordinal < size; ordinal++) {
+            insert(hash(keys.get(ordinal)), ordinal);
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(control, slots, keys);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+/**
+ * Helpers for Swiss table style hash tables, which split the slots into groups of eight and keep one control byte per slot.
+ *
+ * <p>
+ * The control bytes of a group are packed into a single long, so that all the slots of a group can be matched against the
+ * tag of a key at once using SWAR (SIMD within a register) bit tricks, without loading any key or ordinal:
+ * <pre>
+ * |==========|==========|=====|==========|
+ * | slot 7   | slot 6   | ... | slot 0   |
+ * |----------|----------|-----|----------|
+ * | 8 bits   | 8 bits   | ... | 8 bits   |
+ * |==========|==========|=====|==========|
+ * </pre>
+ *
+ * <p>
+ * A control byte is either {@link #EMPTY} (most significant bit set) or the 7-bit tag of the key stored in the slot,
+ * taken from the most significant bits of its hash. The least significant bits of the hash pick the home group.
+ *
+ * @opensearch.internal
+ */
+final class SwissTable {
+    /**
+     * Number of slots in a group.
+     */
+    static final int GROUP_SIZE = 8;
+
+    /**
+     * Control byte of an empty slot.
+     */
+    static final long EMPTY = 0x80L;
+
+    /**
+     * Control bytes of a group whose slots are all empty.
+     */
+    static final long EMPTY_GROUP = 0x8080808080808080L;
+
+    private static final long LSB = 0x0101010101010101L;
+    private static final long MSB = 0x8080808080808080L;
+
+    private SwissTable() {}
+
+    /**
+     * Returns the 7-bit tag stored in the control byte for the given hash.
+     */
+    static long tag(final long hash) {
+        return hash >>> 57;
+    }
+
+    /**
+     * Returns a bitmask with the most significant bit set in each byte of the group whose control byte is equal to the tag.
+     *
+     * <p>
+     * The result may contain false positives for slots right above a matching slot, which always hold a (different) key,
+     * so matches must be verified anyway. There are no false negatives.
+     */
+    static long matchTag(final long group, final long tag) {
+        final long x = group ^ (LSB * tag);
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /**
+     * Returns a bitmask with the most significant bit set in each byte of the group whose slot is empty.
+     */
+    static long matchEmpty(final long group) {
+        return group & MSB;
+    }
+
+    /**
+     * Returns the position within the group of the lowest slot set in the given bitmask.
+     */
+    static int slot(final long matches) {
+        return Long.numberOfTrailingZeros(matches) >>> 3;
+    }
+
+    /**
+     * Returns the next group to probe after the given group, where {@code probe} is the number of groups probed so far.
+     *
+     * <p>
+     * Adding the probe count to the previous group yields triangular probing, which visits every group exactly once
+     * within the first {@code mask + 1} probes when the number of groups is a power of two.
+     */
+    static long nextGroup(final long group, final long probe, final long mask) {
+        return (group + probe) & mask;
+    }
+
+    /**
+     * Returns the control bytes of the group with the control byte at the given position set to the tag.
+     */
+    static long setTag(final long group, final int slot, final long tag) {
+        final int shift = slot << 3;
+        return (group & ~(0xFFL << shift)) | (tag << shift);
+    }
+}
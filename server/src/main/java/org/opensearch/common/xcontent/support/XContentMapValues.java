@@ -229,7 +229,7 @@ public class XContentMapValues {
         return createAutomatonFilter(includes, excludes);
     }
 
-    private static boolean hasNoWildcardsOrDots(String[] fields) {
+    static boolean hasNoWildcardsOrDots(String[] fields) {
         if (fields == null || fields.length == 0) {
             return true;
         }
@@ -272,16 +272,31 @@ public class XContentMapValues {
      */
     public static Function<Map<String, ?>, Map<String, Object>> createAutomatonFilter(String[] includes, String[] excludes) {
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
 
-        CharacterRunAutomaton include;
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+    }
+
+    /**
+     * Builds the automaton matching the included properties, or returns {@code matchAllAutomaton} if there are no includes.
+     */
+    static CharacterRunAutomaton includeAutomaton(String[] includes, CharacterRunAutomaton matchAllAutomaton) {
         if (includes == null || includes.length == 0) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includes);
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAllAutomaton;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includes);
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    /**
+     * Builds the automaton matching the excluded properties, which matches nothing if there are no excludes.
+     */
+    static CharacterRunAutomaton excludeAutomaton(String[] excludes) {
         Automaton excludeA;
         if (excludes == null || excludes.length == 0) {
             excludeA = Automata.makeEmpty();
@@ -289,12 +304,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludes);
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -307,7 +317,7 @@ public class XContentMapValues {
         );
     }
 
-    private static int step(CharacterRunAutomaton automaton, String key, int state) {
+    static int step(CharacterRunAutomaton automaton, String key, int state) {
         for (int i = 0; state != -1 && i < key.length(); ++i) {
             state = automaton.step(state, key.charAt(i));
         }
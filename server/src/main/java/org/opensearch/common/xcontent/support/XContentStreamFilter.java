@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.apache.lucene.util.automaton.Automata;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filters a document with include and exclude rules while streaming it from an {@link XContentParser} into an
+ * {@link XContentBuilder}, without materializing the document as a map first. Only the selected properties are copied to
+ * the builder, everything else is skipped at the token level.
+ * <p>
+ * The filtered document is the same as the one produced by {@link XContentMapValues#filter(String[], String[])}, see
+ * {@link XContentMapValues#filter(java.util.Map, String[], String[])} for the semantics of the rules. The only difference
+ * is that the streaming filter keeps the order of the properties of the original document.
+ * <p>
+ * Instances are immutable and can be shared across threads.
+ *
+ * @opensearch.internal
+ */
+public final class XContentStreamFilter {
+
+    private final Set<String> includeSet;
+    private final Set<String> excludeSet;
+
+    private final CharacterRunAutomaton include;
+    private final CharacterRunAutomaton exclude;
+    private final CharacterRunAutomaton matchAllAutomaton;
+
+    private XContentStreamFilter(String[] includes, String[] excludes) {
+        if (XContentMapValues.hasNoWildcardsOrDots(includes) && XContentMapValues.hasNoWildcardsOrDots(excludes)) {
+            includeSet = (includes == null || includes.length == 0) ? null : new HashSet<>(Arrays.asList(includes));
+            excludeSet = (excludes == null || excludes.length == 0) ? Set.of() : new HashSet<>(Arrays.asList(excludes));
+            include = null;
+            exclude = null;
+            matchAllAutomaton = null;
+        } else {
+            includeSet = null;
+            excludeSet = null;
+            matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+            include = XContentMapValues.includeAutomaton(includes, matchAllAutomaton);
+            exclude = XContentMapValues.excludeAutomaton(excludes);
+        }
+    }
+
+    /**
+     * Returns a filter that only keeps the properties that match the {@code includes} but not the {@code excludes}.
+     */
+    public static XContentStreamFilter of(String[] includes, String[] excludes) {
+        return new XContentStreamFilter(includes, excludes);
+    }
+
+    /**
+     * Filters the given document, which may be compressed, and returns the filtered document in the content type of the
+     * original document.
+     */
+    public BytesReference filter(BytesReference source) throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                source
+            )
+        ) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, source.length()));
+            XContentBuilder builder = new XContentBuilder(parser.contentType().xContent(), streamOutput);
+            filter(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    /**
+     * Reads the object the parser is positioned on, or the next object if the parser has not been advanced yet, and writes
+     * the filtered object to the builder. An object is always written, even if no property matched.
+     */
+    public void filter(XContentParser parser, XContentBuilder builder) throws IOException {
+        XContentParser.Token token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException("expected an object but got [" + token + "]");
+        }
+        builder.startObject();
+        if (include == null) {
+            filterTopLevelProperties(parser, builder);
+        } else {
+            new Filtering(builder).filterObject(parser, include, 0, 0);
+        }
+        builder.endObject();
+    }
+
+    /**
+     * Counterpart of the set-based filter of {@link XContentMapValues}, which only looks at the top-level property names.
+     */
+    private void filterTopLevelProperties(XContentParser parser, XContentBuilder builder) throws IOException {
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+            String name = parser.currentName();
+            String key = name;
+            int dotPos = key.indexOf('.');
+            if (dotPos > 0) {
+                key = key.substring(0, dotPos);
+            }
+            parser.nextToken();
+            if ((includeSet == null || includeSet.contains(key)) && excludeSet.contains(key) == false) {
+                builder.field(name);
+                builder.copyCurrentStructure(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Per-document state of the automaton-based filtering. Objects and arrays are opened lazily: their start is only
+     * written once a value that is kept is found in them, so that empty objects and arrays can be dropped like the map
+     * based filter does.
+     */
+    private final class Filtering {
+        private final XContentBuilder builder;
+        private final List<Frame> frames = new ArrayList<>();
+        private int written = 0;
+
+        Filtering(XContentBuilder builder) {
+            this.builder = builder;
+        }
+
+        void filterObject(XContentParser parser, CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+                String key = parser.currentName();
+                token = parser.nextToken();
+
+                int includeState = XContentMapValues.step(includeAutomaton, key, initialIncludeState);
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int excludeState = XContentMapValues.step(exclude, key, initialExcludeState);
+                if (excludeState != -1 && exclude.isAccept(excludeState)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                boolean accepted = includeAutomaton.isAccept(includeState);
+                CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+                int subIncludeState = includeState;
+                if (accepted) {
+                    if (excludeState == -1 || exclude.step(excludeState, '.') == -1) {
+                        // the exclude has no chances to match inner properties
+                        open();
+                        builder.field(key);
+                        builder.copyCurrentStructure(parser);
+                        continue;
+                    } else {
+                        // the object matched, so consider that the include matches every inner property
+                        // we only care about excludes now
+                        subIncludeAutomaton = matchAllAutomaton;
+                        subIncludeState = 0;
+                    }
+                }
+
+                if (token == XContentParser.Token.START_OBJECT) {
+                    subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                    if (subIncludeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (excludeState != -1) {
+                        excludeState = exclude.step(excludeState, '.');
+                    }
+                    push(key, false, accepted);
+                    filterObject(parser, subIncludeAutomaton, subIncludeState, excludeState);
+                    pop();
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    push(key, true, accepted);
+                    filterArray(parser, subIncludeAutomaton, subIncludeState, excludeState);
+                    pop();
+                } else if (accepted && (excludeState == -1 || exclude.isAccept(excludeState) == false)) {
+                    // leaf property
+                    open();
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        void filterArray(XContentParser parser, CharacterRunAutomaton includeAutomaton, int initialIncludeState, int initialExcludeState)
+            throws IOException {
+            boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+            for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    int includeState = includeAutomaton.step(initialIncludeState, '.');
+                    int excludeState = initialExcludeState;
+                    if (excludeState != -1) {
+                        excludeState = exclude.step(excludeState, '.');
+                    }
+                    push(null, false, false);
+                    filterObject(parser, includeAutomaton, includeState, excludeState);
+                    pop();
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    push(null, true, false);
+                    filterArray(parser, includeAutomaton, initialIncludeState, initialExcludeState);
+                    pop();
+                } else if (isInclude) {
+                    // #22557: only accept this array value if the key we are on is accepted:
+                    open();
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        /**
+         * Registers a nested object or array, which is written right away if it must be kept even when empty.
+         */
+        private void push(String name, boolean array, boolean keepIfEmpty) throws IOException {
+            frames.add(new Frame(name, array));
+            if (keepIfEmpty) {
+                open();
+            }
+        }
+
+        /**
+         * Closes the innermost object or array if it was written, or drops it otherwise.
+         */
+        private void pop() throws IOException {
+            Frame frame = frames.remove(frames.size() - 1);
+            if (written > frames.size()) {
+                written = frames.size();
+                if (frame.array) {
+                    builder.endArray();
+                } else {
+                    builder.endObject();
+                }
+            }
+        }
+
+        /**
+         * Writes the start of the enclosing objects and arrays that have not been written yet.
+         */
+        private void open() throws IOException {
+            for (; written < frames.size(); written++) {
+                Frame frame = frames.get(written);
+                if (frame.name != null) {
+                    builder.field(frame.name);
+                }
+                if (frame.array) {
+                    builder.startArray();
+                } else {
+                    builder.startObject();
+                }
+            }
+        }
+    }
+
+    private static final class Frame {
+        final String name;
+        final boolean array;
+
+        Frame(String name, boolean array) {
+            this.name = name;
+            this.array = array;
+        }
+    }
+}
@@ -380,6 +380,29 @@ public final class IndexSettings {
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * Index setting to let each shard pick its refresh interval between {@link #INDEX_REFRESH_INTERVAL_SETTING} and
+     * {@link #INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING} based on how often it is searched. Like on search idle shards, a search
+     * that arrives while refreshes are deferred waits for the next scheduled refresh, so it never sees data more stale than
+     * {@link #INDEX_REFRESH_INTERVAL_SETTING}, but may take up to that interval longer.
+     */
+    public static final Setting<Boolean> INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING = Setting.boolSetting(
+        "index.refresh.adaptive.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    /**
+     * Index setting describing the longest refresh interval a shard may pick when adaptive refresh is enabled. It bounds how long
+     * a shard that isn't searched keeps indexed documents unrefreshed, unless the indexing memory controller refreshes it first.
+     */
+    public static final Setting<TimeValue> INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING = Setting.timeSetting(
+        "index.refresh.adaptive.max_interval",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.timeValueSeconds(1),
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<ByteSizeValue> INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING = Setting.byteSizeSetting(
         "index.translog.flush_threshold_size",
         new ByteSizeValue(512, ByteSizeUnit.MB),
@@ -824,6 +847,8 @@ public final class IndexSettings {
     private volatile TimeValue syncInterval;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
+    private volatile boolean adaptiveRefreshEnabled;
+    private volatile TimeValue adaptiveRefreshMaxInterval;
     private volatile ByteSizeValue flushThresholdSize;
     private volatile TimeValue translogRetentionAge;
     private volatile ByteSizeValue translogRetentionSize;
@@ -1037,6 +1062,8 @@ public final class IndexSettings {
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
+        adaptiveRefreshEnabled = scopedSettings.get(INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING);
+        adaptiveRefreshMaxInterval = scopedSettings.get(INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
         flushAfterMergeThresholdSize = scopedSettings.get(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING);
@@ -1178,6 +1205,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_AGE_SETTING, this::setTranslogRetentionAge);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_SIZE_SETTING, this::setTranslogRetentionSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_INTERVAL_SETTING, this::setRefreshInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING, this::setAdaptiveRefreshEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING, this::setAdaptiveRefreshMaxInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REFRESH_LISTENERS_PER_SHARD, this::setMaxRefreshListeners);
         scopedSettings.addSettingsUpdateConsumer(MAX_ANALYZED_OFFSET_SETTING, this::setHighlightMaxAnalyzedOffset);
         scopedSettings.addSettingsUpdateConsumer(MAX_TERMS_COUNT_SETTING, this::setMaxTermsCount);
@@ -1275,6 +1304,14 @@ public final class IndexSettings {
         this.refreshInterval = timeValue;
     }
 
+    private void setAdaptiveRefreshEnabled(boolean adaptiveRefreshEnabled) {
+        this.adaptiveRefreshEnabled = adaptiveRefreshEnabled;
+    }
+
+    private void setAdaptiveRefreshMaxInterval(TimeValue adaptiveRefreshMaxInterval) {
+        this.adaptiveRefreshMaxInterval = adaptiveRefreshMaxInterval;
+    }
+
     /**
      * Update the default maxMergesAtOnce
      * 1. sets the new default in {@code TieredMergePolicyProvider}
@@ -1589,6 +1626,20 @@ public final class IndexSettings {
         return refreshInterval;
     }
 
+    /**
+     * Returns true if shards pick their refresh interval based on how often they are searched.
+     */
+    public boolean isAdaptiveRefreshEnabled() {
+        return adaptiveRefreshEnabled;
+    }
+
+    /**
+     * Returns the longest refresh interval a shard may pick when adaptive refresh is enabled.
+     */
+    public TimeValue getAdaptiveRefreshMaxInterval() {
+        return adaptiveRefreshMaxInterval;
+    }
+
     /**
      * Returns the transaction log threshold size when to forcefully flush the index and clear the transaction log.
      */
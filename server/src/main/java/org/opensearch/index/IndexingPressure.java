@@ -44,6 +44,7 @@ import org.opensearch.index.stats.IndexingPressureStats;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Tracks indexing memory pressure
@@ -60,19 +61,21 @@ public class IndexingPressure {
 
     private static final Logger logger = LogManager.getLogger(IndexingPressure.class);
 
+    // Counters used for the rejection decisions need an exact value on every request, all the others are only read for stats and
+    // are striped to avoid contention between write threads.
     protected final AtomicLong currentCombinedCoordinatingAndPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong currentCoordinatingBytes = new AtomicLong(0);
-    protected final AtomicLong currentPrimaryBytes = new AtomicLong(0);
+    protected final LongAdder currentCoordinatingBytes = new LongAdder();
+    protected final LongAdder currentPrimaryBytes = new LongAdder();
     protected final AtomicLong currentReplicaBytes = new AtomicLong(0);
 
-    protected final AtomicLong totalCombinedCoordinatingAndPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong totalCoordinatingBytes = new AtomicLong(0);
-    protected final AtomicLong totalPrimaryBytes = new AtomicLong(0);
-    protected final AtomicLong totalReplicaBytes = new AtomicLong(0);
+    protected final LongAdder totalCombinedCoordinatingAndPrimaryBytes = new LongAdder();
+    protected final LongAdder totalCoordinatingBytes = new LongAdder();
+    protected final LongAdder totalPrimaryBytes = new LongAdder();
+    protected final LongAdder totalReplicaBytes = new LongAdder();
 
-    protected final AtomicLong coordinatingRejections = new AtomicLong(0);
-    protected final AtomicLong primaryRejections = new AtomicLong(0);
-    protected final AtomicLong replicaRejections = new AtomicLong(0);
+    protected final LongAdder coordinatingRejections = new LongAdder();
+    protected final LongAdder primaryRejections = new LongAdder();
+    protected final LongAdder replicaRejections = new LongAdder();
 
     protected final long primaryAndCoordinatingLimits;
     protected final long replicaLimits;
@@ -103,7 +106,7 @@ public class IndexingPressure {
             long bytesWithoutOperation = combinedBytes - bytes;
             long totalBytesWithoutOperation = totalBytes - bytes;
             this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.coordinatingRejections.getAndIncrement();
+            this.coordinatingRejections.increment();
             throw new OpenSearchRejectedExecutionException(
                 "rejected execution of coordinating operation ["
                     + "coordinating_and_primary_bytes="
@@ -124,19 +127,19 @@ public class IndexingPressure {
                 false
             );
         }
-        currentCoordinatingBytes.getAndAdd(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
-        totalCoordinatingBytes.getAndAdd(bytes);
+        currentCoordinatingBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalCoordinatingBytes.add(bytes);
         return wrapReleasable(() -> {
             this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.currentCoordinatingBytes.getAndAdd(-bytes);
+            this.currentCoordinatingBytes.add(-bytes);
         });
     }
 
     public Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(long bytes) {
-        currentPrimaryBytes.getAndAdd(bytes);
-        totalPrimaryBytes.getAndAdd(bytes);
-        return wrapReleasable(() -> this.currentPrimaryBytes.getAndAdd(-bytes));
+        currentPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
+        return wrapReleasable(() -> this.currentPrimaryBytes.add(-bytes));
     }
 
     public Releasable markPrimaryOperationStarted(long bytes, boolean forceExecution) {
@@ -147,7 +150,7 @@ public class IndexingPressure {
             long bytesWithoutOperation = combinedBytes - bytes;
             long totalBytesWithoutOperation = totalBytes - bytes;
             this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.primaryRejections.getAndIncrement();
+            this.primaryRejections.increment();
             throw new OpenSearchRejectedExecutionException(
                 "rejected execution of primary operation ["
                     + "coordinating_and_primary_bytes="
@@ -168,12 +171,12 @@ public class IndexingPressure {
                 false
             );
         }
-        currentPrimaryBytes.getAndAdd(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
-        totalPrimaryBytes.getAndAdd(bytes);
+        currentPrimaryBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
         return wrapReleasable(() -> {
             this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
-            this.currentPrimaryBytes.getAndAdd(-bytes);
+            this.currentPrimaryBytes.add(-bytes);
         });
     }
 
@@ -182,7 +185,7 @@ public class IndexingPressure {
         if (forceExecution == false && replicaWriteBytes > replicaLimits) {
             long replicaBytesWithoutOperation = replicaWriteBytes - bytes;
             this.currentReplicaBytes.getAndAdd(-bytes);
-            this.replicaRejections.getAndIncrement();
+            this.replicaRejections.increment();
             throw new OpenSearchRejectedExecutionException(
                 "rejected execution of replica operation ["
                     + "replica_bytes="
@@ -197,7 +200,7 @@ public class IndexingPressure {
                 false
             );
         }
-        totalReplicaBytes.getAndAdd(bytes);
+        totalReplicaBytes.add(bytes);
         return wrapReleasable(() -> this.currentReplicaBytes.getAndAdd(-bytes));
     }
 
@@ -206,11 +209,11 @@ public class IndexingPressure {
     }
 
     public long getCurrentCoordinatingBytes() {
-        return currentCoordinatingBytes.get();
+        return currentCoordinatingBytes.sum();
     }
 
     public long getCurrentPrimaryBytes() {
-        return currentPrimaryBytes.get();
+        return currentPrimaryBytes.sum();
     }
 
     public long getCurrentReplicaBytes() {
@@ -219,17 +222,17 @@ public class IndexingPressure {
 
     public IndexingPressureStats stats() {
         return new IndexingPressureStats(
-            totalCombinedCoordinatingAndPrimaryBytes.get(),
-            totalCoordinatingBytes.get(),
-            totalPrimaryBytes.get(),
-            totalReplicaBytes.get(),
+            totalCombinedCoordinatingAndPrimaryBytes.sum(),
+            totalCoordinatingBytes.sum(),
+            totalPrimaryBytes.sum(),
+            totalReplicaBytes.sum(),
             currentCombinedCoordinatingAndPrimaryBytes.get(),
-            currentCoordinatingBytes.get(),
-            currentPrimaryBytes.get(),
+            currentCoordinatingBytes.sum(),
+            currentPrimaryBytes.sum(),
             currentReplicaBytes.get(),
-            coordinatingRejections.get(),
-            primaryRejections.get(),
-            replicaRejections.get(),
+            coordinatingRejections.sum(),
+            primaryRejections.sum(),
+            replicaRejections.sum(),
             primaryAndCoordinatingLimits
         );
     }
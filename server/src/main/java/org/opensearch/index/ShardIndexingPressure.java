@@ -75,7 +75,7 @@ public class ShardIndexingPressure extends IndexingPressure {
             }
 
             if (shouldRejectRequest(nodeLevelLimitBreached, shardLevelLimitBreached)) {
-                coordinatingRejections.getAndIncrement();
+                coordinatingRejections.increment();
                 currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
                 tracker.getCommonOperationTracker().incrementCurrentCombinedCoordinatingAndPrimaryBytes(-bytes);
                 rejectShardRequest(
@@ -88,9 +88,9 @@ public class ShardIndexingPressure extends IndexingPressure {
                 );
             }
         }
-        currentCoordinatingBytes.addAndGet(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        totalCoordinatingBytes.addAndGet(bytes);
+        currentCoordinatingBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalCoordinatingBytes.add(bytes);
 
         StatsTracker statsTracker = tracker.getCoordinatingOperationTracker().getStatsTracker();
         statsTracker.incrementCurrentBytes(bytes);
@@ -99,7 +99,7 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         return wrapReleasable(() -> {
             currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
-            currentCoordinatingBytes.addAndGet(-bytes);
+            currentCoordinatingBytes.add(-bytes);
             markShardOperationComplete(
                 bytes,
                 requestStartTime,
@@ -119,13 +119,13 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         ShardIndexingPressureTracker tracker = getShardIndexingPressureTracker(shardId);
 
-        currentPrimaryBytes.addAndGet(bytes);
-        totalPrimaryBytes.addAndGet(bytes);
+        currentPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
         tracker.getPrimaryOperationTracker().getStatsTracker().incrementCurrentBytes(bytes);
         tracker.getPrimaryOperationTracker().getStatsTracker().incrementTotalBytes(bytes);
 
         return wrapReleasable(() -> {
-            currentPrimaryBytes.addAndGet(-bytes);
+            currentPrimaryBytes.add(-bytes);
             tracker.getPrimaryOperationTracker().getStatsTracker().incrementCurrentBytes(-bytes);
         });
     }
@@ -150,7 +150,7 @@ public class ShardIndexingPressure extends IndexingPressure {
             }
 
             if (shouldRejectRequest(nodeLevelLimitBreached, shardLevelLimitBreached)) {
-                primaryRejections.getAndIncrement();
+                primaryRejections.increment();
                 currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
                 tracker.getCommonOperationTracker().incrementCurrentCombinedCoordinatingAndPrimaryBytes(-bytes);
                 rejectShardRequest(
@@ -163,9 +163,9 @@ public class ShardIndexingPressure extends IndexingPressure {
                 );
             }
         }
-        currentPrimaryBytes.addAndGet(bytes);
-        totalCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
-        totalPrimaryBytes.addAndGet(bytes);
+        currentPrimaryBytes.add(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.add(bytes);
+        totalPrimaryBytes.add(bytes);
 
         StatsTracker statsTracker = tracker.getPrimaryOperationTracker().getStatsTracker();
         statsTracker.incrementCurrentBytes(bytes);
@@ -174,7 +174,7 @@ public class ShardIndexingPressure extends IndexingPressure {
 
         return wrapReleasable(() -> {
             currentCombinedCoordinatingAndPrimaryBytes.addAndGet(-bytes);
-            currentPrimaryBytes.addAndGet(-bytes);
+            currentPrimaryBytes.add(-bytes);
             markShardOperationComplete(
                 bytes,
                 requestStartTime,
@@ -205,7 +205,7 @@ public class ShardIndexingPressure extends IndexingPressure {
             }
 
             if (shouldRejectRequest(nodeLevelLimitBreached, shardLevelLimitBreached)) {
-                replicaRejections.getAndIncrement();
+                replicaRejections.increment();
                 currentReplicaBytes.addAndGet(-bytes);
                 tracker.getReplicaOperationTracker().getStatsTracker().incrementCurrentBytes(-bytes);
                 rejectShardRequest(
@@ -218,7 +218,7 @@ public class ShardIndexingPressure extends IndexingPressure {
                 );
             }
         }
-        totalReplicaBytes.addAndGet(bytes);
+        totalReplicaBytes.add(bytes);
 
         StatsTracker statsTracker = tracker.getReplicaOperationTracker().getStatsTracker();
         markShardOperationStarted(statsTracker, tracker.getReplicaOperationTracker().getPerformanceTracker());
@@ -57,6 +57,7 @@ import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.codec.CodecSettings;
 import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.InternalTranslogFactory;
@@ -115,6 +116,7 @@ public final class EngineConfig {
     private final Comparator<LeafReader> leafSorter;
     private final Supplier<DocumentMapperForType> documentMapperForTypeSupplier;
     private final ClusterApplierService clusterApplierService;
+    private final MergeCoordinator mergeCoordinator;
 
     /**
      * A supplier of the outstanding retention leases. This is used during merged operations to determine which operations that have been
@@ -306,6 +308,7 @@ public final class EngineConfig {
         this.documentMapperForTypeSupplier = builder.documentMapperForTypeSupplier;
         this.indexReaderWarmer = builder.indexReaderWarmer;
         this.clusterApplierService = builder.clusterApplierService;
+        this.mergeCoordinator = builder.mergeCoordinator;
     }
 
     /**
@@ -586,6 +589,14 @@ public final class EngineConfig {
         return this.clusterApplierService;
     }
 
+    /**
+     * Returns the node-wide merge coordinator, or null if the merges of this engine are not coordinated.
+     */
+    @Nullable
+    public MergeCoordinator getMergeCoordinator() {
+        return this.mergeCoordinator;
+    }
+
     /**
      * Builder for EngineConfig class
      *
@@ -622,6 +633,7 @@ public final class EngineConfig {
         Comparator<LeafReader> leafSorter;
         private IndexWriter.IndexReaderWarmer indexReaderWarmer;
         private ClusterApplierService clusterApplierService;
+        private MergeCoordinator mergeCoordinator;
 
         public Builder shardId(ShardId shardId) {
             this.shardId = shardId;
@@ -773,6 +785,11 @@ public final class EngineConfig {
             return this;
         }
 
+        public Builder mergeCoordinator(MergeCoordinator mergeCoordinator) {
+            this.mergeCoordinator = mergeCoordinator;
+            return this;
+        }
+
         public EngineConfig build() {
             return new EngineConfig(this);
         }
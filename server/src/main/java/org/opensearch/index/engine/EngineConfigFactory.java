@@ -29,6 +29,7 @@ import org.opensearch.index.codec.CodecServiceConfig;
 import org.opensearch.index.codec.CodecServiceFactory;
 import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.TranslogConfig;
@@ -55,6 +56,7 @@ import java.util.function.Supplier;
 public class EngineConfigFactory {
     private final CodecServiceFactory codecServiceFactory;
     private final TranslogDeletionPolicyFactory translogDeletionPolicyFactory;
+    private final MergeCoordinator mergeCoordinator;
 
     /** default ctor primarily used for tests without plugins */
     public EngineConfigFactory(IndexSettings idxSettings) {
@@ -65,11 +67,25 @@ public class EngineConfigFactory {
      * Construct a factory using the plugin service and provided index settings
      */
     public EngineConfigFactory(PluginsService pluginsService, IndexSettings idxSettings) {
-        this(pluginsService.filterPlugins(EnginePlugin.class), idxSettings);
+        this(pluginsService, idxSettings, null);
+    }
+
+    /**
+     * Construct a factory using the plugin service and provided index settings, whose engines coordinate their merges with the
+     * given node-wide merge coordinator
+     */
+    public EngineConfigFactory(PluginsService pluginsService, IndexSettings idxSettings, @Nullable MergeCoordinator mergeCoordinator) {
+        this(pluginsService.filterPlugins(EnginePlugin.class), idxSettings, mergeCoordinator);
     }
 
     /* private constructor to construct the factory from specific EnginePlugins and IndexSettings */
     EngineConfigFactory(Collection<EnginePlugin> enginePlugins, IndexSettings idxSettings) {
+        this(enginePlugins, idxSettings, null);
+    }
+
+    /* private constructor to construct the factory from specific EnginePlugins, IndexSettings and MergeCoordinator */
+    EngineConfigFactory(Collection<EnginePlugin> enginePlugins, IndexSettings idxSettings, @Nullable MergeCoordinator mergeCoordinator) {
+        this.mergeCoordinator = mergeCoordinator;
         Optional<CodecService> codecService = Optional.empty();
         String codecServiceOverridingPlugin = null;
         Optional<CodecServiceFactory> codecServiceFactory = Optional.empty();
@@ -197,6 +213,7 @@ public class EngineConfigFactory {
             .documentMapperForTypeSupplier(documentMapperForTypeSupplier)
             .indexReaderWarmer(indexReaderWarmer)
             .clusterApplierService(clusterApplierService)
+            .mergeCoordinator(mergeCoordinator)
             .build();
     }
 
@@ -36,6 +36,11 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -47,6 +52,7 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
+import org.opensearch.index.merge.MergeCoordinator;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
 
@@ -65,7 +71,10 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 
     protected final Logger logger;
     private final Settings indexSettings;
+    private final IndexSettings idxSettings;
     private final ShardId shardId;
+    @Nullable
+    private final MergeCoordinator mergeCoordinator;
 
     private final MeanMetric totalMerges = new MeanMetric();
     private final CounterMetric totalMergesNumDocs = new CounterMetric();
@@ -80,10 +89,12 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
 
-    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable MergeCoordinator mergeCoordinator) {
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
         this.indexSettings = indexSettings.getSettings();
+        this.idxSettings = indexSettings;
+        this.mergeCoordinator = mergeCoordinator;
         this.logger = Loggers.getLogger(getClass(), shardId);
         refreshConfig();
     }
@@ -121,10 +132,13 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 new ByteSizeValue(merge.estimatedMergeBytes)
             );
         }
+        Releasable mergeBudget = null;
         try {
             beforeMerge(onGoingMerge);
+            mergeBudget = acquireMergeBudget(merge);
             super.doMerge(mergeSource, merge);
         } finally {
+            Releasables.close(mergeBudget);
             long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
 
             onGoingMerges.remove(onGoingMerge);
@@ -165,6 +179,35 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         }
     }
 
+    /**
+     * Waits for the node-wide merge coordinator, if any, to let the given merge run.
+     */
+    private Releasable acquireMergeBudget(MergePolicy.OneMerge merge) {
+        if (mergeCoordinator == null) {
+            return null;
+        }
+        long newestSegmentMillis = 0;
+        for (SegmentCommitInfo segment : merge.segments) {
+            String timestamp = segment.info.getDiagnostics().get("timestamp");
+            if (timestamp != null) {
+                try {
+                    newestSegmentMillis = Math.max(newestSegmentMillis, Long.parseLong(timestamp));
+                } catch (NumberFormatException e) {
+                    // segments written by other tools may not carry a valid timestamp, treat them as old
+                }
+            }
+        }
+        MergeCoordinator.PendingMerge pendingMerge = new MergeCoordinator.PendingMerge(
+            shardId,
+            merge.totalBytesSize(),
+            merge.getStoreMergeInfo().mergeMaxNumSegments != -1,
+            IndexMetadata.INDEX_PRIORITY_SETTING.get(idxSettings.getSettings()),
+            merge.segments.size(),
+            newestSegmentMillis
+        );
+        return mergeCoordinator.acquire(pendingMerge, merge::isAborted);
+    }
+
     /**
      * A callback allowing for custom logic before an actual merge starts.
      */
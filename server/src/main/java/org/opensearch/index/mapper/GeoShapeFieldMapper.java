@@ -44,6 +44,9 @@ import org.opensearch.common.Explicit;
 import org.opensearch.common.geo.GeometryParser;
 import org.opensearch.common.geo.ShapeRelation;
 import org.opensearch.common.geo.builders.ShapeBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.geometry.Geometry;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.plain.AbstractGeoShapeIndexFieldData;
@@ -82,6 +85,15 @@ import java.util.function.Supplier;
 public class GeoShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geometry, Geometry> {
     private static final Logger logger = LogManager.getLogger(GeoShapeFieldMapper.class);
     public static final String CONTENT_TYPE = "geo_shape";
+    /**
+     * The maximum memory used per geo_shape field to cache the triangles of indexed polygons, disabled by default. Indices
+     * that index the same polygons over and over, such as countries or regions, then tessellate each of them only once.
+     */
+    public static final Setting<ByteSizeValue> TESSELLATION_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "index.mapping.geo_shape.tessellation_cache.size",
+        new ByteSizeValue(0),
+        Property.IndexScope
+    );
     public static final FieldType FIELD_TYPE = new FieldType();
     static {
         FIELD_TYPE.setDimensions(7, 4, Integer.BYTES);
@@ -107,7 +119,12 @@ public class GeoShapeFieldMapper extends AbstractShapeGeometryFieldMapper<Geomet
             GeoShapeFieldType ft = new GeoShapeFieldType(buildFullName(context), indexed, fieldType.stored(), hasDocValues, meta);
             GeometryParser geometryParser = new GeometryParser(ft.orientation.getAsBoolean(), coerce().value(), ignoreZValue().value());
             ft.setGeometryParser(new GeoShapeParser(geometryParser));
-            ft.setGeometryIndexer(new GeoShapeIndexer(orientation().value().getAsBoolean(), buildFullName(context)));
+            long tessellationCacheSize = context.indexSettings() == null
+                ? 0
+                : TESSELLATION_CACHE_SIZE_SETTING.get(context.indexSettings()).getBytes();
+            ft.setGeometryIndexer(
+                new GeoShapeIndexer(orientation().value().getAsBoolean(), buildFullName(context), tessellationCacheSize)
+            );
             ft.setOrientation(orientation == null ? Defaults.ORIENTATION.value() : orientation);
             return ft;
         }
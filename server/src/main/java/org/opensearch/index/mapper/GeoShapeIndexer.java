@@ -34,6 +34,8 @@ package org.opensearch.index.mapper;
 
 import org.apache.lucene.document.LatLonShape;
 import org.apache.lucene.index.IndexableField;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.geo.GeoLineDecomposer;
 import org.opensearch.common.geo.GeoPolygonDecomposer;
 import org.opensearch.common.geo.GeoShapeType;
@@ -65,12 +67,33 @@ import static org.opensearch.common.geo.GeoUtils.normalizePoint;
  */
 public class GeoShapeIndexer implements AbstractGeometryFieldMapper.Indexer<Geometry, Geometry> {
 
+    // rough size of a triangle field, made of its encoded bytes and the field and bytes ref objects
+    private static final long TRIANGLE_BYTES = 96;
+
     private final boolean orientation;
     private final String name;
+    private final Cache<Polygon, IndexableField[]> tessellationCache;
 
     public GeoShapeIndexer(boolean orientation, String name) {
+        this(orientation, name, 0);
+    }
+
+    /**
+     * @param tessellationCacheSizeInBytes the maximum memory used to cache the triangles of the polygons that are indexed,
+     *                                     so that identical polygons are only tessellated once, or 0 to disable the cache
+     */
+    public GeoShapeIndexer(boolean orientation, String name, long tessellationCacheSizeInBytes) {
         this.orientation = orientation;
         this.name = name;
+        if (tessellationCacheSizeInBytes > 0) {
+            this.tessellationCache = CacheBuilder.<Polygon, IndexableField[]>builder()
+                .setMaximumWeight(tessellationCacheSizeInBytes)
+                // the key holds the coordinates of the polygon, two doubles per point
+                .weigher((polygon, fields) -> 16L * numPoints(polygon) + TRIANGLE_BYTES * fields.length)
+                .build();
+        } else {
+            this.tessellationCache = null;
+        }
     }
 
     public Geometry prepareForIndexing(Geometry geometry) {
@@ -197,7 +220,7 @@ public class GeoShapeIndexer implements AbstractGeometryFieldMapper.Indexer<Geom
 
     @Override
     public List<IndexableField> indexShape(ParseContext context, Geometry shape) {
-        LuceneGeometryIndexer visitor = new LuceneGeometryIndexer(name);
+        LuceneGeometryIndexer visitor = new LuceneGeometryIndexer(name, tessellationCache);
         shape.visit(visitor);
         return visitor.fields();
     }
@@ -210,9 +233,11 @@ public class GeoShapeIndexer implements AbstractGeometryFieldMapper.Indexer<Geom
     private static class LuceneGeometryIndexer implements GeometryVisitor<Void, RuntimeException> {
         private List<IndexableField> fields = new ArrayList<>();
         private final String name;
+        private final Cache<Polygon, IndexableField[]> tessellationCache;
 
-        private LuceneGeometryIndexer(String name) {
+        private LuceneGeometryIndexer(String name, Cache<Polygon, IndexableField[]> tessellationCache) {
             this.name = name;
+            this.tessellationCache = tessellationCache;
         }
 
         List<IndexableField> fields() {
@@ -275,7 +300,17 @@ public class GeoShapeIndexer implements AbstractGeometryFieldMapper.Indexer<Geom
 
         @Override
         public Void visit(Polygon polygon) {
-            addFields(LatLonShape.createIndexableFields(name, GeoShapeUtils.toLucenePolygon(polygon)));
+            if (tessellationCache == null) {
+                addFields(LatLonShape.createIndexableFields(name, GeoShapeUtils.toLucenePolygon(polygon)));
+                return null;
+            }
+            // triangle fields are immutable, so the fields of identical polygons can be shared across documents
+            IndexableField[] triangles = tessellationCache.get(polygon);
+            if (triangles == null) {
+                triangles = LatLonShape.createIndexableFields(name, GeoShapeUtils.toLucenePolygon(polygon));
+                tessellationCache.put(polygon, triangles);
+            }
+            addFields(triangles);
             return null;
         }
 
@@ -298,4 +333,12 @@ public class GeoShapeIndexer implements AbstractGeometryFieldMapper.Indexer<Geom
         }
     }
 
+    private static long numPoints(Polygon polygon) {
+        long numPoints = polygon.getPolygon().length();
+        for (int i = 0; i < polygon.getNumberOfHoles(); i++) {
+            numPoints += polygon.getHole(i).length();
+        }
+        return numPoints;
+    }
+
 }
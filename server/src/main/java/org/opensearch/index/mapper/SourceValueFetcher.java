@@ -69,6 +69,13 @@ public abstract class SourceValueFetcher implements ValueFetcher {
         this.nullValue = nullValue;
     }
 
+    /**
+     * Returns the paths in the document source that {@link #fetchValues} reads the values from.
+     */
+    public Set<String> sourcePaths() {
+        return sourcePaths;
+    }
+
     @Override
     public List<Object> fetchValues(SourceLookup lookup) {
         List<Object> values = new ArrayList<>();
@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Coordinates the merges of all shards of a node against a node-wide budget of bytes being merged. Every shard runs its own
+ * merge scheduler, so without coordination merges of cold indices compete equally with merges of the hot indices that create
+ * segments fastest. When enabled, a merge only starts once the bytes of all running merges plus its own fit into the budget,
+ * and waiting merges are started in order of their search impact: merges of indices with a higher {@code index.priority}
+ * first, then merges removing more segments, then merges of younger segments. Forced merges only run in the spare capacity
+ * left by regular merges.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class MergeCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(MergeCoordinator.class);
+
+    public static final Setting<Boolean> MERGE_COORDINATOR_ENABLED = Setting.boolSetting(
+        "indices.merge.coordinator.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> MERGE_COORDINATOR_MAX_MERGING_BYTES = Setting.byteSizeSetting(
+        "indices.merge.coordinator.max_merging_bytes",
+        new ByteSizeValue(10, ByteSizeUnit.GB),
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(Long.MAX_VALUE),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The share of the budget forced merges may use. Forced merges only start if no regular merge is waiting, and a ratio of
+     * zero lets them run only while no other merge is running on the node.
+     */
+    public static final Setting<Double> MERGE_COORDINATOR_FORCED_MERGE_RATIO = Setting.doubleSetting(
+        "indices.merge.coordinator.forced_merge_ratio",
+        0.5,
+        0.0,
+        1.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Interval at which waiting merges check whether they have been aborted in the meantime, so that closing a shard is
+     * never blocked on the budget.
+     */
+    static final TimeValue ABORT_CHECK_INTERVAL = TimeValue.timeValueMillis(100);
+
+    private static final Comparator<PendingMerge> MERGE_ORDER = Comparator.comparing((PendingMerge merge) -> merge.forced)
+        .thenComparing(Comparator.comparingInt((PendingMerge merge) -> merge.indexPriority).reversed())
+        .thenComparing(Comparator.comparingInt((PendingMerge merge) -> merge.segmentCount).reversed())
+        .thenComparing(Comparator.comparingLong((PendingMerge merge) -> merge.newestSegmentMillis).reversed())
+        .thenComparingLong(merge -> merge.sequence);
+
+    private final PriorityQueue<PendingMerge> pendingMerges = new PriorityQueue<>(MERGE_ORDER);
+    private final CounterMetric totalQueuedMerges = new CounterMetric();
+    private final CounterMetric totalQueuedTimeInMillis = new CounterMetric();
+    private long mergingBytes;
+    private long sequence;
+
+    private volatile boolean enabled;
+    private volatile long maxMergingBytes;
+    private volatile double forcedMergeRatio;
+
+    public MergeCoordinator(Settings settings, ClusterSettings clusterSettings) {
+        this.enabled = MERGE_COORDINATOR_ENABLED.get(settings);
+        this.maxMergingBytes = MERGE_COORDINATOR_MAX_MERGING_BYTES.get(settings).getBytes();
+        this.forcedMergeRatio = MERGE_COORDINATOR_FORCED_MERGE_RATIO.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MERGE_COORDINATOR_ENABLED, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(MERGE_COORDINATOR_MAX_MERGING_BYTES, this::setMaxMergingBytes);
+        clusterSettings.addSettingsUpdateConsumer(MERGE_COORDINATOR_FORCED_MERGE_RATIO, this::setForcedMergeRatio);
+    }
+
+    /**
+     * Blocks the calling merge thread until the given merge may run. The returned releasable must be closed once the merge
+     * is done. Merges that get aborted while waiting are let through right away, so that Lucene can abort them.
+     */
+    public Releasable acquire(PendingMerge merge, BooleanSupplier aborted) {
+        if (enabled == false) {
+            return () -> {};
+        }
+        final long startNanos = System.nanoTime();
+        boolean queued = false;
+        synchronized (this) {
+            merge.sequence = sequence++;
+            pendingMerges.add(merge);
+            try {
+                while (enabled && canStart(merge) == false) {
+                    if (aborted.getAsBoolean()) {
+                        return () -> {};
+                    }
+                    if (queued == false) {
+                        queued = true;
+                        totalQueuedMerges.inc();
+                        logger.trace(
+                            "{} merge of [{}] queued, [{}] bytes merging on the node",
+                            merge.shardId,
+                            new ByteSizeValue(merge.bytes),
+                            new ByteSizeValue(mergingBytes)
+                        );
+                    }
+                    wait(ABORT_CHECK_INTERVAL.millis());
+                }
+            } catch (InterruptedException e) {
+                throw new ThreadInterruptedException(e);
+            } finally {
+                pendingMerges.remove(merge);
+                // the next merge in line might fit into the budget now
+                notifyAll();
+                if (queued) {
+                    totalQueuedTimeInMillis.inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                }
+            }
+            mergingBytes += merge.bytes;
+        }
+        return Releasables.releaseOnce(() -> release(merge.bytes));
+    }
+
+    private void release(long bytes) {
+        synchronized (this) {
+            mergingBytes -= bytes;
+            assert mergingBytes >= 0 : "merging bytes must not be negative but was [" + mergingBytes + "]";
+            notifyAll();
+        }
+    }
+
+    private boolean canStart(PendingMerge merge) {
+        assert Thread.holdsLock(this);
+        if (pendingMerges.peek() != merge) {
+            return false;
+        }
+        if (mergingBytes == 0) {
+            // always let a single merge run, even if it is larger than the budget
+            return true;
+        }
+        long budget = merge.forced ? (long) (maxMergingBytes * forcedMergeRatio) : maxMergingBytes;
+        return mergingBytes + merge.bytes <= budget;
+    }
+
+    private synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        notifyAll();
+    }
+
+    private synchronized void setMaxMergingBytes(ByteSizeValue maxMergingBytes) {
+        this.maxMergingBytes = maxMergingBytes.getBytes();
+        notifyAll();
+    }
+
+    private synchronized void setForcedMergeRatio(double forcedMergeRatio) {
+        this.forcedMergeRatio = forcedMergeRatio;
+        notifyAll();
+    }
+
+    /**
+     * The number of merges currently waiting to start.
+     */
+    public synchronized int getPendingMerges() {
+        return pendingMerges.size();
+    }
+
+    /**
+     * The bytes of all merges currently admitted by the coordinator.
+     */
+    public synchronized long getMergingBytes() {
+        return mergingBytes;
+    }
+
+    /**
+     * The total number of merges that had to wait before starting.
+     */
+    public long getTotalQueuedMerges() {
+        return totalQueuedMerges.count();
+    }
+
+    /**
+     * The total time merges spent waiting before starting.
+     */
+    public long getTotalQueuedTimeInMillis() {
+        return totalQueuedTimeInMillis.count();
+    }
+
+    /**
+     * A merge waiting to be started by the {@link MergeCoordinator}.
+     *
+     * @opensearch.experimental
+     */
+    @ExperimentalApi
+    public static final class PendingMerge {
+        private final ShardId shardId;
+        private final long bytes;
+        private final boolean forced;
+        private final int indexPriority;
+        private final int segmentCount;
+        private final long newestSegmentMillis;
+        private long sequence;
+
+        /**
+         * @param shardId             the shard the merge belongs to
+         * @param bytes               the size of the segments being merged
+         * @param forced              whether the merge was triggered by a force merge
+         * @param indexPriority       the {@code index.priority} of the index
+         * @param segmentCount        the number of segments being merged
+         * @param newestSegmentMillis the creation time of the newest segment being merged
+         */
+        public PendingMerge(
+            ShardId shardId,
+            long bytes,
+            boolean forced,
+            int indexPriority,
+            int segmentCount,
+            long newestSegmentMillis
+        ) {
+            this.shardId = shardId;
+            this.bytes = bytes;
+            this.forced = forced;
+            this.indexPriority = indexPriority;
+            this.segmentCount = segmentCount;
+            this.newestSegmentMillis = newestSegmentMillis;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.refresh;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks the refresh interval of a shard within configured bounds based on how often the shard is searched. A shard that is
+ * searched often is refreshed at the configured refresh interval, while a shard that is rarely searched is refreshed less
+ * often, up to the configured maximum interval, which avoids creating many tiny segments on write heavy shards nobody reads.
+ *
+ * @opensearch.internal
+ */
+public final class AdaptiveRefreshPolicy {
+
+    private static final double SEARCH_INTERVAL_EWMA_ALPHA = 0.3;
+    private static final long NEVER = -1;
+
+    private final LongSupplier relativeTimeInMillis;
+    private final ExponentiallyWeightedMovingAverage searchIntervalMillis;
+    private final AtomicLong lastSearchMillis = new AtomicLong(NEVER);
+    private final CounterMetric deferredRefreshes = new CounterMetric();
+    private volatile long lastRefreshMillis;
+
+    public AdaptiveRefreshPolicy(LongSupplier relativeTimeInMillis) {
+        this.relativeTimeInMillis = relativeTimeInMillis;
+        this.searchIntervalMillis = new ExponentiallyWeightedMovingAverage(SEARCH_INTERVAL_EWMA_ALPHA, 0);
+        this.lastRefreshMillis = relativeTimeInMillis.getAsLong();
+    }
+
+    /**
+     * Called whenever a searcher of the shard is accessed to track the search arrival rate.
+     */
+    public void onSearch() {
+        long now = relativeTimeInMillis.getAsLong();
+        long previous = lastSearchMillis.getAndSet(now);
+        if (previous != NEVER) {
+            searchIntervalMillis.addValue(Math.max(0, now - previous));
+        }
+    }
+
+    /**
+     * Called whenever the shard has been refreshed by the scheduler.
+     */
+    public void onRefresh() {
+        lastRefreshMillis = relativeTimeInMillis.getAsLong();
+    }
+
+    /**
+     * Returns the refresh interval the shard should currently use. The interval follows the average time between two searches,
+     * or the time since the last search if it is longer, and is bounded by the given minimum and maximum intervals.
+     */
+    public long targetIntervalMillis(long minIntervalMillis, long maxIntervalMillis) {
+        long lastSearch = lastSearchMillis.get();
+        if (lastSearch == NEVER) {
+            return Math.max(minIntervalMillis, maxIntervalMillis);
+        }
+        long sinceLastSearch = relativeTimeInMillis.getAsLong() - lastSearch;
+        long searchInterval = Math.max((long) searchIntervalMillis.getAverage(), sinceLastSearch);
+        return Math.max(minIntervalMillis, Math.min(maxIntervalMillis, searchInterval));
+    }
+
+    /**
+     * Returns true if the scheduled refresh should be skipped because the shard was refreshed more recently than its target
+     * refresh interval. The scheduler runs at the minimum interval, so a shard whose target is the minimum interval is never
+     * deferred, regardless of small delays in the scheduling.
+     */
+    public boolean shouldDeferRefresh(long minIntervalMillis, long maxIntervalMillis) {
+        long targetIntervalMillis = targetIntervalMillis(minIntervalMillis, maxIntervalMillis);
+        if (targetIntervalMillis <= minIntervalMillis) {
+            return false;
+        }
+        long sinceLastRefresh = relativeTimeInMillis.getAsLong() - lastRefreshMillis;
+        if (sinceLastRefresh < targetIntervalMillis) {
+            deferredRefreshes.inc();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The number of scheduled refreshes that were skipped by this policy.
+     */
+    public long getDeferredRefreshes() {
+        return deferredRefreshes.count();
+    }
+}
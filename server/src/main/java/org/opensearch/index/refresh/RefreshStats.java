@@ -32,6 +32,7 @@
 
 package org.opensearch.index.refresh;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -64,6 +65,11 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * Number of scheduled refreshes skipped because of adaptive refresh.
+     */
+    private long adaptiveDeferred;
+
     public RefreshStats() {}
 
     public RefreshStats(StreamInput in) throws IOException {
@@ -72,6 +78,9 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         externalTotal = in.readVLong();
         externalTotalTimeInMillis = in.readVLong();
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            adaptiveDeferred = in.readVLong();
+        }
     }
 
     @Override
@@ -81,6 +90,9 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         out.writeVLong(externalTotal);
         out.writeVLong(externalTotalTimeInMillis);
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeVLong(adaptiveDeferred);
+        }
     }
 
     public RefreshStats(long total, long totalTimeInMillis, long externalTotal, long externalTotalTimeInMillis, int listeners) {
@@ -91,6 +103,18 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.listeners = listeners;
     }
 
+    public RefreshStats(
+        long total,
+        long totalTimeInMillis,
+        long externalTotal,
+        long externalTotalTimeInMillis,
+        int listeners,
+        long adaptiveDeferred
+    ) {
+        this(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        this.adaptiveDeferred = adaptiveDeferred;
+    }
+
     public void add(RefreshStats refreshStats) {
         addTotals(refreshStats);
     }
@@ -104,6 +128,7 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.adaptiveDeferred += refreshStats.adaptiveDeferred;
     }
 
     /**
@@ -155,6 +180,13 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The number of scheduled refreshes skipped because the shard was refreshed more recently than its adaptive refresh interval.
+     */
+    public long getAdaptiveDeferred() {
+        return adaptiveDeferred;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -163,6 +195,7 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        builder.field("adaptive_deferred", adaptiveDeferred);
         builder.endObject();
         return builder;
     }
@@ -177,11 +210,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             && totalTimeInMillis == rhs.totalTimeInMillis
             && externalTotal == rhs.externalTotal
             && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-            && listeners == rhs.listeners;
+            && listeners == rhs.listeners
+            && adaptiveDeferred == rhs.adaptiveDeferred;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners, adaptiveDeferred);
     }
 }
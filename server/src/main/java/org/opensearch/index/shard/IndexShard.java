@@ -158,6 +158,7 @@ import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.recovery.RecoveryStats;
+import org.opensearch.index.refresh.AdaptiveRefreshPolicy;
 import org.opensearch.index.refresh.RefreshStats;
 import org.opensearch.index.remote.RemoteSegmentStats;
 import org.opensearch.index.remote.RemoteStorePathStrategy;
@@ -359,6 +360,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final RefreshListeners refreshListeners;
 
     private final AtomicLong lastSearcherAccess = new AtomicLong();
+    private final AdaptiveRefreshPolicy adaptiveRefreshPolicy;
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
     private volatile boolean useRetentionLeasesInPeerRecovery;
@@ -515,6 +517,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         readerWrapper = indexReaderWrapper;
         refreshListeners = buildRefreshListeners();
         lastSearcherAccess.set(threadPool.relativeTimeInMillis());
+        this.adaptiveRefreshPolicy = new AdaptiveRefreshPolicy(threadPool::relativeTimeInMillis);
         persistMetadata(path, indexSettings, shardRouting, null, logger);
         this.useRetentionLeasesInPeerRecovery = replicationTracker.hasAllPeerRecoveryRetentionLeases();
         this.refreshPendingLocationListener = new RefreshPendingLocationListener();
@@ -1481,7 +1484,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             TimeUnit.NANOSECONDS.toMillis(refreshMetric.sum()),
             externalRefreshMetric.count(),
             TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()),
-            listeners
+            listeners,
+            adaptiveRefreshPolicy.getDeferredRefreshes()
         );
     }
 
@@ -2163,6 +2167,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private void markSearcherAccessed() {
         lastSearcherAccess.lazySet(threadPool.relativeTimeInMillis());
+        if (indexSettings.isAdaptiveRefreshEnabled()) {
+            adaptiveRefreshPolicy.onSearch();
+        }
     }
 
     private Engine.Searcher acquireSearcher(String source, Engine.SearcherScope scope) {
@@ -4910,10 +4917,19 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false && active.get() && shouldDeferAdaptiveRefresh()) {
+                // the shard is searched less often than it is refreshed, skip this refresh until its adaptive interval elapsed.
+                // like for search idle shards, the next searcher access registers a refresh listener so that searches never see
+                // more stale data than with the configured refresh interval, they wait for the next scheduled refresh instead.
+                final Engine engine = getEngine();
+                engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
+                setRefreshPending(engine);
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
                 }
+                adaptiveRefreshPolicy.onRefresh();
                 return getEngine().maybeRefresh("schedule");
             }
         }
@@ -4922,6 +4938,22 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    /**
+     * Returns true if the scheduled refresh should be skipped as adaptive refresh picked a longer refresh interval for this shard.
+     * Adaptive refresh only applies where search idle does, so that shards whose replicas or remote store depend on regular
+     * refreshes keep refreshing at the configured interval. Refreshes triggered by the indexing memory controller when indexing
+     * buffers are full are not affected, and neither are refreshes that a search waits for.
+     */
+    private boolean shouldDeferAdaptiveRefresh() {
+        if (indexSettings.isAdaptiveRefreshEnabled() == false || refreshInterval == null || isSearchIdleSupported() == false) {
+            return false;
+        }
+        return adaptiveRefreshPolicy.shouldDeferRefresh(
+            refreshInterval.get().millis(),
+            indexSettings.getAdaptiveRefreshMaxInterval().millis()
+        );
+    }
+
     /**
      * Returns true if this shards is search idle
      */
@@ -29,6 +29,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Default implementation of {@link StreamPoller}
@@ -387,6 +388,7 @@ public class DefaultStreamPoller implements StreamPoller {
         builder.setTotalProcessorFailedCount(processorMetrics.failedMessageCounter().count());
         builder.setTotalProcessorFailuresDroppedCount(processorMetrics.failedMessageDroppedCounter().count());
         builder.setTotalProcessorThreadInterruptCount(processorMetrics.processorThreadInterruptCounter().count());
+        builder.setTotalProcessingTimeInMillis(TimeUnit.NANOSECONDS.toMillis(processorMetrics.processingTimeInNanosCounter().count()));
         // set consumer stats
         builder.setTotalPolledCount(totalPolledCount.count());
         builder.setTotalConsumerErrorCount(totalConsumerErrorCount.count());
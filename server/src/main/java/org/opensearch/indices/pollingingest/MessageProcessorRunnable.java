@@ -34,6 +34,8 @@ import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -54,10 +56,14 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     private static final String SOURCE = "_source";
     private static final int MIN_RETRY_COUNT = 2;
     private static final int WAIT_BEFORE_RETRY_DURATION_MS = 2000;
+    // messages are drained from the blocking queue in batches, so that its lock is taken once per batch
+    private static final int MAX_DRAINED_MESSAGES = 100;
 
     private final BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue;
     private final MessageProcessor messageProcessor;
     private final MessageProcessorMetrics messageProcessorMetrics = MessageProcessorMetrics.create();
+    // only accessed by the processor thread
+    private final Deque<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> drainedMessages = new ArrayDeque<>();
 
     // currentShardPointer tracks the most recent pointer that is being processed
     @Nullable
@@ -288,7 +294,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         while (Thread.currentThread().isInterrupted() == false && closed == false) {
             try {
                 if (shardUpdateMessage == null) {
-                    shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+                    shardUpdateMessage = nextMessage();
                 }
             } catch (InterruptedException e) {
                 messageProcessorMetrics.processorThreadInterruptCounter.inc();
@@ -299,7 +305,12 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                 try {
                     messageProcessorMetrics.processedCounter.inc();
                     currentShardPointer = shardUpdateMessage.pointer();
-                    messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
+                    long startTimeInNanos = System.nanoTime();
+                    try {
+                        messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
+                    } finally {
+                        messageProcessorMetrics.processingTimeInNanosCounter.inc(System.nanoTime() - startTimeInNanos);
+                    }
                     shardUpdateMessage = null;
                     retryCount = 0;
                 } catch (VersionConflictEngineException e) {
@@ -327,6 +338,21 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         }
     }
 
+    /**
+     * Returns the next message to process, or {@code null} if none was available within the poll timeout. The messages
+     * that are available are drained from the blocking queue at once and processed in order.
+     */
+    private ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> nextMessage() throws InterruptedException {
+        if (drainedMessages.isEmpty() == false) {
+            return drainedMessages.poll();
+        }
+        ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> message = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+        if (message != null) {
+            blockingQueue.drainTo(drainedMessages, MAX_DRAINED_MESSAGES - 1);
+        }
+        return message;
+    }
+
     private void waitBeforeRetry() {
         try {
             Thread.sleep(WAIT_BEFORE_RETRY_DURATION_MS);
@@ -373,7 +399,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
      */
     public record MessageProcessorMetrics(CounterMetric processedCounter, CounterMetric invalidMessageCounter,
         CounterMetric versionConflictCounter, CounterMetric failedMessageCounter, CounterMetric failedMessageDroppedCounter,
-        CounterMetric processorThreadInterruptCounter) {
+        CounterMetric processorThreadInterruptCounter, CounterMetric processingTimeInNanosCounter) {
         public static MessageProcessorMetrics create() {
             return new MessageProcessorMetrics(
                 new CounterMetric(),
@@ -381,6 +407,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                 new CounterMetric(),
                 new CounterMetric(),
                 new CounterMetric(),
+                new CounterMetric(),
                 new CounterMetric()
             );
         }
@@ -397,6 +424,9 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             combinedMetrics.processorThreadInterruptCounter.inc(
                 this.processorThreadInterruptCounter.count() + other.processorThreadInterruptCounter.count()
             );
+            combinedMetrics.processingTimeInNanosCounter.inc(
+                this.processingTimeInNanosCounter.count() + other.processingTimeInNanosCounter.count()
+            );
 
             return combinedMetrics;
         }
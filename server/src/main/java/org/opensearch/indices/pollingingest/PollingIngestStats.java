@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.pollingingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -38,20 +39,22 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         long totalProcessorFailedCount = in.readLong();
         long totalProcessorFailuresDroppedCount = in.readLong();
         long totalProcessorThreadInterruptCount = in.readLong();
+        long totalPolledCount = in.readLong();
+        long lagInMillis = in.readLong();
+        long totalConsumerErrorCount = in.readLong();
+        long totalPollerMessageFailureCount = in.readLong();
+        long totalPollerMessageDroppedCount = in.readLong();
+        long totalDuplicateMessageSkippedCount = in.readLong();
+        long totalProcessingTimeInMillis = in.getVersion().onOrAfter(Version.V_3_2_0) ? in.readLong() : 0;
         this.messageProcessorStats = new MessageProcessorStats(
             totalProcessedCount,
             totalInvalidMessageCount,
             totalProcessorVersionConflictsCount,
             totalProcessorFailedCount,
             totalProcessorFailuresDroppedCount,
-            totalProcessorThreadInterruptCount
+            totalProcessorThreadInterruptCount,
+            totalProcessingTimeInMillis
         );
-        long totalPolledCount = in.readLong();
-        long lagInMillis = in.readLong();
-        long totalConsumerErrorCount = in.readLong();
-        long totalPollerMessageFailureCount = in.readLong();
-        long totalPollerMessageDroppedCount = in.readLong();
-        long totalDuplicateMessageSkippedCount = in.readLong();
         this.consumerStats = new ConsumerStats(
             totalPolledCount,
             lagInMillis,
@@ -76,6 +79,9 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         out.writeLong(consumerStats.totalPollerMessageFailureCount);
         out.writeLong(consumerStats.totalPollerMessageDroppedCount);
         out.writeLong(consumerStats.totalDuplicateMessageSkippedCount);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeLong(messageProcessorStats.totalProcessingTimeInMillis);
+        }
     }
 
     @Override
@@ -88,6 +94,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         builder.field("total_failed_count", messageProcessorStats.totalFailedCount);
         builder.field("total_failures_dropped_count", messageProcessorStats.totalFailuresDroppedCount);
         builder.field("total_processor_thread_interrupt_count", messageProcessorStats.totalProcessorThreadInterruptCount);
+        builder.field("total_processing_time_in_millis", messageProcessorStats.totalProcessingTimeInMillis);
         builder.endObject();
         builder.startObject("consumer_stats");
         builder.field("total_polled_count", consumerStats.totalPolledCount);
@@ -127,7 +134,8 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
      */
     @ExperimentalApi
     public record MessageProcessorStats(long totalProcessedCount, long totalInvalidMessageCount, long totalVersionConflictsCount,
-        long totalFailedCount, long totalFailuresDroppedCount, long totalProcessorThreadInterruptCount) {
+        long totalFailedCount, long totalFailuresDroppedCount, long totalProcessorThreadInterruptCount,
+        long totalProcessingTimeInMillis) {
     }
 
     /**
@@ -150,6 +158,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         private long totalFailedCount;
         private long totalFailuresDroppedCount;
         private long totalProcessorThreadInterruptCount;
+        private long totalProcessingTimeInMillis;
         private long lagInMillis;
         private long totalConsumerErrorCount;
         private long totalPollerMessageFailureCount;
@@ -193,6 +202,11 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder setTotalProcessingTimeInMillis(long totalProcessingTimeInMillis) {
+            this.totalProcessingTimeInMillis = totalProcessingTimeInMillis;
+            return this;
+        }
+
         public Builder setLagInMillis(long lagInMillis) {
             this.lagInMillis = lagInMillis;
             return this;
@@ -225,7 +239,8 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 totalVersionConflictsCount,
                 totalFailedCount,
                 totalFailuresDroppedCount,
-                totalProcessorThreadInterruptCount
+                totalProcessorThreadInterruptCount,
+                totalProcessingTimeInMillis
             );
             ConsumerStats consumerStats = new ConsumerStats(
                 totalPolledCount,
@@ -32,6 +32,9 @@
 
 package org.opensearch.ingest;
 
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.index.VersionType;
@@ -881,15 +884,42 @@ public final class IngestDocument {
         private final Object initialContext;
 
         private FieldPath(String path) {
+            ParsedFieldPath parsed = ParsedFieldPath.of(path);
+            this.initialContext = parsed.ingestMetadata ? ingestMetadata : sourceAndMetadata;
+            this.pathElements = parsed.pathElements;
+        }
+
+    }
+
+    /**
+     * A field path split into its elements. Processors access the same paths for every document, so parsed paths are
+     * shared across documents instead of being split again on every access.
+     */
+    static final class ParsedFieldPath {
+
+        // paths usually come from pipeline definitions, but they may also be rendered from templates, in which case they
+        // differ per document and can be of any length, so the least recently used paths are evicted past this many bytes
+        static final long MAX_CACHED_PATHS_BYTES = 1024 * 1024;
+        static final Cache<String, ParsedFieldPath> CACHE = CacheBuilder.<String, ParsedFieldPath>builder()
+            .setMaximumWeight(MAX_CACHED_PATHS_BYTES)
+            .weigher((path, parsed) -> RamUsageEstimator.sizeOf(path) + parsed.ramBytesUsed)
+            .build();
+
+        private final boolean ingestMetadata;
+        // shared across documents, must not be modified
+        private final String[] pathElements;
+        private final long ramBytesUsed;
+
+        private ParsedFieldPath(String path) {
             if (Strings.isEmpty(path)) {
                 throw new IllegalArgumentException("path cannot be null nor empty");
             }
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                ingestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                ingestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
@@ -900,7 +930,16 @@ public final class IngestDocument {
             if (pathElements.length == 1 && pathElements[0].isEmpty()) {
                 throw new IllegalArgumentException("path [" + path + "] is not valid");
             }
+            this.ramBytesUsed = RamUsageEstimator.shallowSizeOfInstance(ParsedFieldPath.class) + RamUsageEstimator.sizeOf(pathElements);
         }
 
+        static ParsedFieldPath of(String path) {
+            ParsedFieldPath parsed = path == null ? null : CACHE.get(path);
+            if (parsed == null) {
+                parsed = new ParsedFieldPath(path);
+                CACHE.put(path, parsed);
+            }
+            return parsed;
+        }
     }
 }
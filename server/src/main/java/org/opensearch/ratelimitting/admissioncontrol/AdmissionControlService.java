@@ -12,15 +12,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.Constants;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.node.ResourceUsageCollectorService;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.AdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.controllers.IoBasedAdmissionController;
+import org.opensearch.ratelimitting.admissioncontrol.controllers.SearchCostBasedAdmissionController;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.stats.AdmissionControlStats;
 import org.opensearch.ratelimitting.admissioncontrol.stats.AdmissionControllerStats;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +33,7 @@ import java.util.concurrent.ConcurrentMap;
 
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.CpuBasedAdmissionController.CPU_BASED_ADMISSION_CONTROLLER;
 import static org.opensearch.ratelimitting.admissioncontrol.controllers.IoBasedAdmissionController.IO_BASED_ADMISSION_CONTROLLER;
+import static org.opensearch.ratelimitting.admissioncontrol.controllers.SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER;
 
 /**
  * Admission control Service that bootstraps and manages all the Admission Controllers in OpenSearch.
@@ -73,6 +78,7 @@ public class AdmissionControlService {
         if (Constants.LINUX) {
             registerAdmissionController(IO_BASED_ADMISSION_CONTROLLER);
         }
+        registerAdmissionController(SEARCH_COST_BASED_ADMISSION_CONTROLLER);
     }
 
     /**
@@ -86,6 +92,30 @@ public class AdmissionControlService {
         );
     }
 
+    /**
+     *
+     * @param action Transport action name
+     * @param admissionControlActionType admissionControllerActionType value
+     * @param request Transport request being admitted
+     * @return releasable to close once the response of the request has been sent
+     */
+    public Releasable applyTransportAdmissionControl(
+        String action,
+        AdmissionControlActionType admissionControlActionType,
+        TransportRequest request
+    ) {
+        List<Releasable> releasables = new ArrayList<>(this.admissionControllers.size());
+        try {
+            for (AdmissionController admissionController : this.admissionControllers.values()) {
+                releasables.add(admissionController.apply(action, admissionControlActionType, request));
+            }
+        } catch (RuntimeException e) {
+            Releasables.close(releasables);
+            throw e;
+        }
+        return Releasables.releaseOnce(Releasables.wrap(releasables));
+    }
+
     /**
      *
      * @param admissionControllerName admissionControllerName to register into the service.
@@ -114,6 +144,13 @@ public class AdmissionControlService {
                     this.clusterService,
                     this.settings
                 );
+            case SEARCH_COST_BASED_ADMISSION_CONTROLLER:
+                return new SearchCostBasedAdmissionController(
+                    admissionControllerName,
+                    this.resourceUsageCollectorService,
+                    this.clusterService,
+                    this.settings
+                );
             default:
                 throw new IllegalArgumentException("Not Supported AdmissionController : " + admissionControllerName);
         }
@@ -9,10 +9,12 @@
 package org.opensearch.ratelimitting.admissioncontrol.controllers;
 
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.node.ResourceUsageCollectorService;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.transport.TransportRequest;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +68,15 @@ public abstract class AdmissionController {
      */
     public abstract void apply(String action, AdmissionControlActionType admissionControlActionType);
 
+    /**
+     * Apply admission control for an action with access to the request being admitted. Controllers that account for a
+     * request until it completes return a {@link Releasable} which must be closed once the response has been sent.
+     */
+    public Releasable apply(String action, AdmissionControlActionType admissionControlActionType, TransportRequest request) {
+        this.apply(action, admissionControlActionType);
+        return () -> {};
+    }
+
     /**
      * @return name of the admission-controller
      */
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.node.ResourceUsageCollectorService;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
+import org.opensearch.ratelimitting.admissioncontrol.settings.SearchCostBasedAdmissionControllerSettings;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.transport.TransportRequest;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  Class for search cost based admission controller in OpenSearch. Instead of looking at the current node utilisation,
+ *  it estimates the cost of every shard search request from its shape using {@link SearchCostEstimator} and admits it
+ *  against a per-node budget of in-flight cost. Requests estimated below the cheap request limit are always admitted,
+ *  so that under overload the expensive requests are shed first.
+ */
+public class SearchCostBasedAdmissionController extends AdmissionController {
+    public static final String SEARCH_COST_BASED_ADMISSION_CONTROLLER = "search_cost";
+    private static final Logger LOGGER = LogManager.getLogger(SearchCostBasedAdmissionController.class);
+    public SearchCostBasedAdmissionControllerSettings settings;
+    private final SearchCostEstimator costEstimator;
+    private final AtomicLong inFlightCost = new AtomicLong();
+
+    /**
+     * @param admissionControllerName       Name of the admission controller
+     * @param resourceUsageCollectorService Instance used to get node resource usage stats
+     * @param clusterService                ClusterService Instance
+     * @param settings                      Immutable settings instance
+     */
+    public SearchCostBasedAdmissionController(
+        String admissionControllerName,
+        ResourceUsageCollectorService resourceUsageCollectorService,
+        ClusterService clusterService,
+        Settings settings
+    ) {
+        super(admissionControllerName, resourceUsageCollectorService, clusterService);
+        this.settings = new SearchCostBasedAdmissionControllerSettings(clusterService.getClusterSettings(), settings);
+        this.costEstimator = new SearchCostEstimator();
+    }
+
+    /**
+     * The cost of a request can only be estimated with access to the request itself,
+     * see {@link #apply(String, AdmissionControlActionType, TransportRequest)}
+     */
+    @Override
+    public void apply(String action, AdmissionControlActionType admissionControlActionType) {}
+
+    /**
+     * Apply admission control based on the estimated cost of the shard search request
+     * @return releasable to close once the response of the request has been sent
+     */
+    @Override
+    public Releasable apply(String action, AdmissionControlActionType admissionControlActionType, TransportRequest request) {
+        if (admissionControlActionType != AdmissionControlActionType.SEARCH
+            || request instanceof ShardSearchRequest == false
+            || this.isEnabledForTransportLayer(this.settings.getTransportLayerAdmissionControllerMode()) == false) {
+            return () -> {};
+        }
+        ShardSearchRequest shardSearchRequest = (ShardSearchRequest) request;
+        String shape = SearchCostEstimator.shapeOf(action, shardSearchRequest);
+        long cost = costEstimator.estimate(shape, shardSearchRequest.source());
+        // reserve the cost before checking the budget so that concurrent requests can't all pass the check
+        long inFlightCostWithRequest = inFlightCost.addAndGet(cost);
+        if (isBudgetBreached(action, cost, inFlightCostWithRequest)) {
+            this.addRejectionCount(admissionControlActionType.getType(), 1);
+            if (this.isAdmissionControllerEnforced(this.settings.getTransportLayerAdmissionControllerMode())) {
+                inFlightCost.addAndGet(-cost);
+                throw new OpenSearchRejectedExecutionException(
+                    String.format(
+                        Locale.ROOT,
+                        "Search cost admission controller rejected the request for action [%s] as its estimated cost [%d] exceeds "
+                            + "the remaining search cost budget",
+                        action,
+                        cost
+                    )
+                );
+            }
+        }
+        final long startNanos = System.nanoTime();
+        return Releasables.releaseOnce(() -> {
+            inFlightCost.addAndGet(-cost);
+            costEstimator.onCompletion(shape, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        });
+    }
+
+    /**
+     * Check if admitting a request of the given cost, already added to the in-flight cost, exceeds the configured budget.
+     * Cheap requests never do.
+     */
+    private boolean isBudgetBreached(String actionName, long cost, long inFlightCostWithRequest) {
+        if (cost < this.settings.getCheapRequestCostLimit()) {
+            return false;
+        }
+        long currentCost = inFlightCostWithRequest - cost;
+        long budget = this.settings.getCostBudget();
+        if (inFlightCostWithRequest > budget) {
+            LOGGER.debug(
+                "SearchCostBasedAdmissionController limit reached as the estimated cost [{}] added to the in-flight cost [{}] "
+                    + "exceeds the budget [{}] for transport action [{}] in admissionControlMode [{}]",
+                cost,
+                currentCost,
+                budget,
+                actionName,
+                this.settings.getTransportLayerAdmissionControllerMode()
+            );
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return sum of the estimated cost of all requests currently admitted by this controller
+     */
+    public long getInFlightCost() {
+        return inFlightCost.get();
+    }
+
+    SearchCostEstimator getCostEstimator() {
+        return costEstimator;
+    }
+}
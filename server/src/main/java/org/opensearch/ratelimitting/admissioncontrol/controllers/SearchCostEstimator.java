@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.apache.lucene.search.BooleanClause;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilderVisitor;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchRequest;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Estimates the cost of a shard level search request before it is executed. The cost is expressed in milliseconds
+ * of shard execution time and is derived from the observed execution time of previous requests with the same
+ * shape, falling back to a static estimate based on the aggregation tree and requested hits for unseen shapes.
+ *
+ * @opensearch.internal
+ */
+public class SearchCostEstimator {
+
+    static final long BASE_COST = 1;
+    static final long AGGREGATION_COST = 10;
+    static final int HITS_PER_COST_UNIT = 100;
+    static final int MAX_TRACKED_SHAPES = 10_000;
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final Cache<String, ExponentiallyWeightedMovingAverage> observedCosts;
+
+    public SearchCostEstimator() {
+        this(MAX_TRACKED_SHAPES);
+    }
+
+    SearchCostEstimator(long maxTrackedShapes) {
+        this.observedCosts = CacheBuilder.<String, ExponentiallyWeightedMovingAverage>builder().setMaximumWeight(maxTrackedShapes).build();
+    }
+
+    /**
+     * Returns the estimated cost of a request with the given shape, preferring observed history over the static estimate.
+     */
+    public long estimate(String shape, SearchSourceBuilder source) {
+        ExponentiallyWeightedMovingAverage observed = observedCosts.get(shape);
+        if (observed != null) {
+            return Math.max(BASE_COST, (long) Math.ceil(observed.getAverage()));
+        }
+        return staticEstimate(source);
+    }
+
+    /**
+     * Records the execution time of a completed request so that later requests with the same shape are estimated from it.
+     */
+    public void onCompletion(String shape, long tookInMillis) {
+        try {
+            observedCosts.computeIfAbsent(shape, key -> new ExponentiallyWeightedMovingAverage(EWMA_ALPHA, tookInMillis))
+                .addValue(tookInMillis);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("failed to record search cost for shape [" + shape + "]", e);
+        }
+    }
+
+    /**
+     * @return number of request shapes with an observed cost
+     */
+    public int trackedShapes() {
+        return observedCosts.count();
+    }
+
+    static long staticEstimate(SearchSourceBuilder source) {
+        long cost = BASE_COST;
+        if (source == null) {
+            return cost;
+        }
+        if (source.size() > 0) {
+            cost += source.size() / HITS_PER_COST_UNIT;
+        }
+        if (source.aggregations() != null) {
+            cost += aggregationCost(source.aggregations().getAggregatorFactories(), 1);
+        }
+        return cost;
+    }
+
+    /**
+     * Every aggregation is weighted by its depth since each level multiplies the number of buckets collected below it.
+     */
+    private static long aggregationCost(Collection<AggregationBuilder> aggregations, int depth) {
+        long cost = 0;
+        for (AggregationBuilder aggregation : aggregations) {
+            cost += AGGREGATION_COST * depth + aggregationCost(aggregation.getSubAggregations(), depth + 1);
+        }
+        return cost;
+    }
+
+    /**
+     * Computes the shape of a request: the search phase, the target index, the query types in traversal order, the
+     * aggregation tree and the number of sort fields. Requests that only differ in their values share the same shape,
+     * while the phases of the same request, such as dfs and query, are tracked separately since their costs differ.
+     */
+    public static String shapeOf(String action, ShardSearchRequest request) {
+        StringBuilder shape = new StringBuilder(action).append('|').append(request.shardId().getIndexName()).append('|');
+        SearchSourceBuilder source = request.source();
+        if (source != null) {
+            if (source.query() != null) {
+                source.query().visit(new QueryBuilderVisitor() {
+                    @Override
+                    public void accept(QueryBuilder qb) {
+                        shape.append(qb.getName()).append(',');
+                    }
+
+                    @Override
+                    public QueryBuilderVisitor getChildVisitor(BooleanClause.Occur occur) {
+                        shape.append(occur.name()).append(':');
+                        return this;
+                    }
+                });
+            }
+            shape.append('|');
+            if (source.aggregations() != null) {
+                appendAggregationShape(shape, source.aggregations().getAggregatorFactories());
+            }
+            shape.append('|').append(source.sorts() == null ? 0 : source.sorts().size());
+        }
+        return shape.toString();
+    }
+
+    private static void appendAggregationShape(StringBuilder shape, Collection<AggregationBuilder> aggregations) {
+        for (AggregationBuilder aggregation : aggregations) {
+            shape.append(aggregation.getType());
+            if (aggregation.getSubAggregations().isEmpty() == false) {
+                shape.append('[');
+                appendAggregationShape(shape, aggregation.getSubAggregations());
+                shape.append(']');
+            }
+            shape.append(',');
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.settings;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlSettings;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+
+/**
+ * Settings related to search cost based admission controller.
+ * @opensearch.internal
+ */
+public class SearchCostBasedAdmissionControllerSettings {
+
+    /**
+     * Default parameters for the SearchCostBasedAdmissionControllerSettings
+     */
+    public static class Defaults {
+        public static final long COST_BUDGET = 60_000;
+        public static final long CHEAP_REQUEST_COST_LIMIT = 100;
+    }
+
+    private volatile AdmissionControlMode transportLayerMode;
+    private volatile long costBudget;
+    private volatile long cheapRequestCostLimit;
+
+    /**
+     * Feature level setting to operate in shadow-mode or in enforced-mode. If enforced field is set
+     * rejection will be performed, otherwise only rejection metrics will be populated.
+     */
+    public static final Setting<AdmissionControlMode> SEARCH_COST_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE = new Setting<>(
+        "admission_control.transport.search_cost.mode_override",
+        AdmissionControlSettings.ADMISSION_CONTROL_TRANSPORT_LAYER_MODE,
+        AdmissionControlMode::fromName,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Total estimated cost, in milliseconds of shard execution time, that the node accepts to have in flight at once.
+     */
+    public static final Setting<Long> SEARCH_COST_BUDGET = Setting.longSetting(
+        "admission_control.search.cost.budget",
+        Defaults.COST_BUDGET,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Requests estimated below this cost are always admitted so that cheap traffic is never shed.
+     */
+    public static final Setting<Long> SEARCH_CHEAP_REQUEST_COST_LIMIT = Setting.longSetting(
+        "admission_control.search.cost.cheap_request_limit",
+        Defaults.CHEAP_REQUEST_COST_LIMIT,
+        0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public SearchCostBasedAdmissionControllerSettings(ClusterSettings clusterSettings, Settings settings) {
+        this.transportLayerMode = SEARCH_COST_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.get(settings);
+        this.costBudget = SEARCH_COST_BUDGET.get(settings);
+        this.cheapRequestCostLimit = SEARCH_CHEAP_REQUEST_COST_LIMIT.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_COST_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE, this::setTransportLayerMode);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_COST_BUDGET, this::setCostBudget);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_CHEAP_REQUEST_COST_LIMIT, this::setCheapRequestCostLimit);
+    }
+
+    private void setTransportLayerMode(AdmissionControlMode admissionControlMode) {
+        this.transportLayerMode = admissionControlMode;
+    }
+
+    public AdmissionControlMode getTransportLayerAdmissionControllerMode() {
+        return transportLayerMode;
+    }
+
+    public long getCostBudget() {
+        return costBudget;
+    }
+
+    public void setCostBudget(long costBudget) {
+        this.costBudget = costBudget;
+    }
+
+    public long getCheapRequestCostLimit() {
+        return cheapRequestCostLimit;
+    }
+
+    public void setCheapRequestCostLimit(long cheapRequestCostLimit) {
+        this.cheapRequestCostLimit = cheapRequestCostLimit;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.transport.TransportChannel;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Transport channel that releases the resources held by the admission controllers for a request once its response is sent.
+ *
+ * @opensearch.internal
+ */
+public class AdmissionControlTransportChannel implements TransportChannel {
+
+    private final TransportChannel channel;
+    private final Releasable onResponse;
+
+    AdmissionControlTransportChannel(TransportChannel channel, Releasable onResponse) {
+        this.channel = channel;
+        this.onResponse = onResponse;
+    }
+
+    @Override
+    public String getProfileName() {
+        return channel.getProfileName();
+    }
+
+    @Override
+    public String getChannelType() {
+        return channel.getChannelType();
+    }
+
+    @Override
+    public void sendResponse(TransportResponse response) throws IOException {
+        try {
+            onResponse.close();
+        } finally {
+            channel.sendResponse(response);
+        }
+    }
+
+    @Override
+    public void sendResponseBatch(TransportResponse response) {
+        channel.sendResponseBatch(response);
+    }
+
+    @Override
+    public void completeStream() {
+        try {
+            onResponse.close();
+        } finally {
+            channel.completeStream();
+        }
+    }
+
+    @Override
+    public void sendResponse(Exception exception) throws IOException {
+        try {
+            onResponse.close();
+        } finally {
+            channel.sendResponse(exception);
+        }
+    }
+
+    @Override
+    public Version getVersion() {
+        return channel.getVersion();
+    }
+
+    public TransportChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public <T> Optional<T> get(String name, Class<T> clazz) {
+        return channel.get(name, clazz);
+    }
+}
@@ -10,6 +10,7 @@ package org.opensearch.ratelimitting.admissioncontrol.transport;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlService;
 import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
@@ -55,16 +56,24 @@ public class AdmissionControlTransportHandler<T extends TransportRequest> implem
     @Override
     public void messageReceived(T request, TransportChannel channel, Task task) throws Exception {
         // skip admission control if force execution is true
-        if (!this.forceExecution) {
-            // intercept the transport requests here and apply admission control
-            try {
-                this.admissionControlService.applyTransportAdmissionControl(this.action, this.admissionControlActionType);
-            } catch (final OpenSearchRejectedExecutionException openSearchRejectedExecutionException) {
-                log.warn(openSearchRejectedExecutionException.getMessage());
-                channel.sendResponse(openSearchRejectedExecutionException);
-                return;
-            }
+        if (this.forceExecution) {
+            actualHandler.messageReceived(request, channel, task);
+            return;
+        }
+        // intercept the transport requests here and apply admission control
+        final Releasable admitted;
+        try {
+            admitted = this.admissionControlService.applyTransportAdmissionControl(this.action, this.admissionControlActionType, request);
+        } catch (final OpenSearchRejectedExecutionException openSearchRejectedExecutionException) {
+            log.warn(openSearchRejectedExecutionException.getMessage());
+            channel.sendResponse(openSearchRejectedExecutionException);
+            return;
+        }
+        try {
+            actualHandler.messageReceived(request, new AdmissionControlTransportChannel(channel, admitted), task);
+        } catch (Exception e) {
+            admitted.close();
+            throw e;
         }
-        actualHandler.messageReceived(request, channel, task);
     }
 }
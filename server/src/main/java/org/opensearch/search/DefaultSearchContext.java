@@ -123,6 +123,7 @@ import static org.opensearch.search.SearchService.AGGREGATION_REWRITE_FILTER_SEG
 import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.search.SearchService.CONCURRENT_FETCH_ENABLED;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_ALL;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_AUTO;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
@@ -215,6 +216,7 @@ final class DefaultSearchContext extends SearchContext {
     private final int filterRewriteSegmentThreshold;
     private final int cardinalityAggregationPruningThreshold;
     private final boolean keywordIndexOrDocValuesEnabled;
+    private final boolean concurrentFetchEnabled;
 
     DefaultSearchContext(
         ReaderContext readerContext,
@@ -277,6 +279,7 @@ final class DefaultSearchContext extends SearchContext {
         this.cardinalityAggregationPruningThreshold = evaluateCardinalityAggregationPruningThreshold();
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
         this.keywordIndexOrDocValuesEnabled = evaluateKeywordIndexOrDocValuesEnabled();
+        this.concurrentFetchEnabled = evaluateConcurrentFetchEnabled();
     }
 
     @Override
@@ -1207,4 +1210,16 @@ final class DefaultSearchContext extends SearchContext {
         }
         return false;
     }
+
+    @Override
+    public boolean concurrentFetchEnabled() {
+        return concurrentFetchEnabled;
+    }
+
+    private boolean evaluateConcurrentFetchEnabled() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(CONCURRENT_FETCH_ENABLED);
+        }
+        return false;
+    }
 }
@@ -122,7 +122,7 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
 
     private SearchSortValues sortValues = SearchSortValues.EMPTY;
 
-    private Map<String, Float> matchedQueries = new HashMap<>();
+    private Map<String, Float> matchedQueries = emptyMap();
 
     private Explanation explanation;
 
@@ -167,6 +167,14 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
     }
 
     public SearchHit(StreamInput in) throws IOException {
+        this(in, null);
+    }
+
+    /**
+     * Reads a hit whose shard target is written as an ordinal into the given shard targets, or as a full shard target if
+     * they are {@code null}, see {@link SearchHits#writeTo(StreamOutput)}.
+     */
+    SearchHit(StreamInput in, @Nullable SearchShardTarget[] shards) throws IOException {
         docId = -1;
         score = in.readFloat();
         id = in.readOptionalText();
@@ -202,7 +210,7 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
             this.highlightFields = unmodifiableMap(highlightFields);
         }
 
-        sortValues = new SearchSortValues(in);
+        sortValues = SearchSortValues.readFrom(in);
 
         size = in.readVInt();
         if (in.getVersion().onOrAfter(Version.V_2_13_0)) {
@@ -215,14 +223,19 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
                         Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (oldValue, newValue) -> oldValue, LinkedHashMap::new)
                     );
             }
-        } else {
+        } else if (size > 0) {
             matchedQueries = new LinkedHashMap<>(size);
             for (int i = 0; i < size; i++) {
                 matchedQueries.put(in.readString(), Float.NaN);
             }
         }
         // we call the setter here because that also sets the local index parameter
-        shard(in.readOptionalWriteable(SearchShardTarget::new));
+        if (shards == null) {
+            shard(in.readOptionalWriteable(SearchShardTarget::new));
+        } else {
+            int shardOrd = in.readVInt();
+            shard(shardOrd == 0 ? null : shards[shardOrd - 1]);
+        }
         size = in.readVInt();
         if (size > 0) {
             innerHits = new HashMap<>(size);
@@ -240,6 +253,14 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
+        writeTo(out, null);
+    }
+
+    /**
+     * Writes this hit with its shard target as an ordinal into the given shard targets, or as a full shard target if they
+     * are {@code null}.
+     */
+    void writeTo(StreamOutput out, @Nullable Map<SearchShardTarget, Integer> shardOrds) throws IOException {
         out.writeFloat(score);
         out.writeOptionalText(id);
         if (out.getVersion().before(Version.V_2_0_0)) {
@@ -278,7 +299,11 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
                 out.writeString(matchedFilter);
             }
         }
-        out.writeOptionalWriteable(shard);
+        if (shardOrds == null) {
+            out.writeOptionalWriteable(shard);
+        } else {
+            out.writeVInt(shard == null ? 0 : shardOrds.get(shard));
+        }
         if (innerHits == null) {
             out.writeVInt(0);
         } else {
@@ -572,7 +597,10 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
     }
 
     public void matchedQueries(String[] matchedQueries) {
-        if (matchedQueries != null) {
+        if (matchedQueries != null && matchedQueries.length > 0) {
+            if (this.matchedQueries.isEmpty()) {
+                this.matchedQueries = new HashMap<>();
+            }
             for (String query : matchedQueries) {
                 this.matchedQueries.put(query, Float.NaN);
             }
@@ -711,9 +739,8 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
         if (source != null) {
             XContentHelper.writeRawField(SourceFieldMapper.NAME, source, builder, params);
         }
-        if (documentFields.isEmpty() == false &&
         // ignore fields all together if they are all empty
-            documentFields.values().stream().anyMatch(df -> !df.getValues().isEmpty())) {
+        if (hasNonEmptyDocumentField()) {
             builder.startObject(Fields.FIELDS);
             for (DocumentField field : documentFields.values()) {
                 if (!field.getValues().isEmpty()) {
@@ -1004,6 +1031,15 @@ public final class SearchHit implements Writeable, ToXContentObject, Iterable<Do
         return Explanation.match(value, description, details);
     }
 
+    private boolean hasNonEmptyDocumentField() {
+        for (DocumentField field : documentFields.values()) {
+            if (field.getValues().isEmpty() == false) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void buildExplanation(XContentBuilder builder, Explanation explanation) throws IOException {
         builder.startObject();
         builder.field(Fields.VALUE, explanation.getValue());
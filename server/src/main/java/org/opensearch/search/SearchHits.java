@@ -35,6 +35,7 @@ package org.opensearch.search;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -50,8 +51,10 @@ import org.opensearch.rest.action.search.RestSearchAction;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
@@ -116,8 +119,12 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
             hits = EMPTY;
         } else {
             hits = new SearchHit[size];
+            SearchShardTarget[] shards = null;
+            if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+                shards = in.readArray(SearchShardTarget::new, SearchShardTarget[]::new);
+            }
             for (int i = 0; i < hits.length; i++) {
-                hits[i] = new SearchHit(in);
+                hits[i] = new SearchHit(in, shards);
             }
         }
         sortFields = in.readOptionalArray(Lucene::readSortField, SortField[]::new);
@@ -135,8 +142,24 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
         out.writeFloat(maxScore);
         out.writeVInt(hits.length);
         if (hits.length > 0) {
-            for (SearchHit hit : hits) {
-                hit.writeTo(out);
+            if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+                // hits come from a handful of shards, so each shard target is written once and the hits refer to it by
+                // ordinal, which also lets the hits that are read back share their shard target
+                Map<SearchShardTarget, Integer> shardOrds = new HashMap<>();
+                List<SearchShardTarget> shards = new ArrayList<>();
+                for (SearchHit hit : hits) {
+                    if (hit.getShard() != null && shardOrds.putIfAbsent(hit.getShard(), shards.size() + 1) == null) {
+                        shards.add(hit.getShard());
+                    }
+                }
+                out.writeCollection(shards);
+                for (SearchHit hit : hits) {
+                    hit.writeTo(out, shardOrds);
+                }
+            } else {
+                for (SearchHit hit : hits) {
+                    hit.writeTo(out);
+                }
             }
         }
         out.writeOptionalArray(Lucene::writeSortField, sortFields);
@@ -253,6 +253,7 @@ import org.opensearch.search.fetch.subphase.FetchVersionPhase;
 import org.opensearch.search.fetch.subphase.MatchedQueriesPhase;
 import org.opensearch.search.fetch.subphase.ScriptFieldsPhase;
 import org.opensearch.search.fetch.subphase.SeqNoPrimaryTermPhase;
+import org.opensearch.search.fetch.subphase.highlight.AnalyzedTextCache;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.search.fetch.subphase.highlight.HighlightPhase;
 import org.opensearch.search.fetch.subphase.highlight.Highlighter;
@@ -929,7 +930,7 @@ public class SearchModule {
         NamedRegistry<Highlighter> highlighters = new NamedRegistry<>("highlighter");
         highlighters.register("fvh", new FastVectorHighlighter(settings));
         highlighters.register("plain", new PlainHighlighter());
-        highlighters.register("unified", new UnifiedHighlighter());
+        highlighters.register("unified", new UnifiedHighlighter(AnalyzedTextCache.create(settings)));
         highlighters.extractAndRegister(plugins, SearchPlugin::getHighlighters);
 
         return unmodifiableMap(highlighters.getRegistry());
@@ -39,6 +39,7 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.IndicesRequest;
 import org.opensearch.action.OriginalIndices;
@@ -54,6 +55,7 @@ import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.lease.Releasable;
@@ -368,6 +370,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * Enables processing the hits of independent segments concurrently in the fetch phase, using the same executor as
+     * concurrent segment search.
+     */
+    public static final Setting<Boolean> CONCURRENT_FETCH_ENABLED = Setting.boolSetting(
+        "search.fetch.concurrent.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -1715,18 +1728,21 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final Releasable markAsUsed = readerContext != null ? readerContext.markAsUsed(getKeepAlive(request)) : () -> {};
         try (Releasable ignored = markAsUsed) {
             final IndexService indexService;
+            final IndexShard indexShard;
             final Engine.Searcher canMatchSearcher;
-            final boolean hasRefreshPending;
+            final boolean refreshPending;
             if (readerContext != null) {
                 indexService = readerContext.indexService();
+                indexShard = null;
                 canMatchSearcher = readerContext.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
-                hasRefreshPending = false;
+                refreshPending = false;
             } else {
                 indexService = indicesService.indexServiceSafe(request.shardId().getIndex());
-                IndexShard indexShard = indexService.getShard(request.shardId().getId());
-                hasRefreshPending = indexShard.hasRefreshPending() && checkRefreshPending;
+                indexShard = indexService.getShard(request.shardId().getId());
+                refreshPending = indexShard.hasRefreshPending();
                 canMatchSearcher = indexShard.acquireSearcher(Engine.CAN_MATCH_SEARCH_SOURCE);
             }
+            final boolean hasRefreshPending = refreshPending && checkRefreshPending;
 
             try (Releasable ignored2 = canMatchSearcher) {
                 QueryShardContext context = indexService.newQueryShardContext(
@@ -1751,11 +1767,55 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 final Integer trackTotalHitsUpto = request.source() == null ? null : request.source().trackTotalHitsUpTo();
                 canMatch = canMatch && canMatchSearchAfter(searchAfterFieldDoc, minMax, sortBuilder, trackTotalHitsUpto);
 
+                // a pending refresh means that the query phase will search a newer reader than this one
+                if (indexShard != null
+                    && refreshPending == false
+                    && request.cacheOnCoordinator()
+                    && isCacheableOnCoordinator(request, context)) {
+                    final String readerCopyId = indexShard.routingEntry().allocationId().getId() + "/" + indexShard.getHistoryUUID();
+                    final long readerVersion = canMatchSearcher.getDirectoryReader().getVersion();
+                    return new CanMatchResponse(canMatch || hasRefreshPending, minMax, readerCopyId, readerVersion);
+                }
                 return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
             }
         }
     }
 
+    /**
+     * Returns whether the response to the given request only depends on the version of the shard reader, so that the
+     * coordinating node may cache it. Only requests that explicitly opted into the request cache are checked, by parsing
+     * the parts of the request that may use the current time, scripts or lookups.
+     */
+    private static boolean isCacheableOnCoordinator(ShardSearchRequest request, QueryShardContext context) {
+        if (Boolean.TRUE.equals(request.requestCache()) == false) {
+            return false;
+        }
+        final SearchSourceBuilder source = request.source();
+        if (source != null) {
+            if (source.scriptFields() != null && source.scriptFields().isEmpty() == false) {
+                return false;
+            }
+            try {
+                if (source.query() != null) {
+                    context.toQuery(source.query());
+                }
+                if (source.postFilter() != null) {
+                    context.toQuery(source.postFilter());
+                }
+                if (source.sorts() != null) {
+                    SortBuilder.buildSort(source.sorts(), context);
+                }
+                if (source.aggregations() != null) {
+                    source.aggregations().build(context, null);
+                }
+            } catch (Exception e) {
+                // the query phase reports the failure, the response is simply not cached
+                return false;
+            }
+        }
+        return context.isCacheable();
+    }
+
     public static boolean canMatchSearchAfter(
         FieldDoc searchAfter,
         MinAndMax<?> minMax,
@@ -1888,16 +1948,32 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        @Nullable
+        private final String readerCopyId;
+        private final long readerVersion;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
             this.canMatch = in.readBoolean();
             this.estimatedMinAndMax = in.readOptionalWriteable(MinAndMax::new);
+            if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+                this.readerCopyId = in.readOptionalString();
+                this.readerVersion = in.readZLong();
+            } else {
+                this.readerCopyId = null;
+                this.readerVersion = -1;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, null, -1);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, @Nullable String readerCopyId, long readerVersion) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.readerCopyId = readerCopyId;
+            this.readerVersion = readerVersion;
         }
 
         @Override
@@ -1905,6 +1981,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             super.writeTo(out);
             out.writeBoolean(canMatch);
             out.writeOptionalWriteable(estimatedMinAndMax);
+            if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+                out.writeOptionalString(readerCopyId);
+                out.writeZLong(readerVersion);
+            }
         }
 
         public boolean canMatch() {
@@ -1914,6 +1994,23 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * Identifies the shard copy whose reader {@link #readerVersion()} belongs to, by its allocation id and history
+         * UUID, or {@code null} if the response to the request cannot be cached on the coordinating node.
+         */
+        @Nullable
+        public String readerCopyId() {
+            return readerCopyId;
+        }
+
+        /**
+         * The version of the shard reader that the request would be executed against if its response only depends on
+         * that reader, or {@code -1} otherwise.
+         */
+        public long readerVersion() {
+            return readerVersion;
+        }
     }
 
     /**
@@ -94,6 +94,23 @@ public class SearchSortValues implements ToXContentFragment, Writeable {
         this.rawSortValues = in.readArray(Lucene::readSortValue, Object[]::new);
     }
 
+    private SearchSortValues(Object[] formattedSortValues, Object[] rawSortValues) {
+        this.formattedSortValues = formattedSortValues;
+        this.rawSortValues = rawSortValues;
+    }
+
+    /**
+     * Reads sort values, sharing the {@link #EMPTY} instance for hits that are not sorted by field.
+     */
+    static SearchSortValues readFrom(StreamInput in) throws IOException {
+        Object[] formattedSortValues = in.readArray(Lucene::readSortValue, Object[]::new);
+        Object[] rawSortValues = in.readArray(Lucene::readSortValue, Object[]::new);
+        if (formattedSortValues.length == 0 && rawSortValues.length == 0) {
+            return EMPTY;
+        }
+        return new SearchSortValues(formattedSortValues, rawSortValues);
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeArray(Lucene::writeSortValue, this.formattedSortValues);
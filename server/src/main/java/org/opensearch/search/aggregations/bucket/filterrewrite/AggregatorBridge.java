@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Weight;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -143,4 +144,14 @@ public abstract class AggregatorBridge {
         Weight weight = ctx.query().rewrite(ctx.searcher()).createWeight(ctx.searcher(), ScoreMode.COMPLETE_NO_SCORES, 1f);
         return weight != null && weight.count(leafCtx) == leafCtx.reader().numDocs();
     }
+
+    /**
+     * Returns the top level query of the search with the wrappers that don't change the matching documents removed
+     *
+     * @param ctx the search context
+     * @return the concrete top level query
+     */
+    public static Query topLevelConcreteQuery(SearchContext ctx) {
+        return Helper.unwrapIntoConcreteQuery(ctx.query());
+    }
 }
@@ -31,10 +31,19 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldExistsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.ArrayUtil.ByteArrayComparator;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.Numbers;
@@ -45,6 +54,8 @@ import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -59,6 +70,7 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.StarTreeBucketCollector;
 import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.bucket.filterrewrite.AggregatorBridge;
 import org.opensearch.search.aggregations.bucket.terms.IncludeExclude.LongFilter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds.BucketOrdsEnum;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForLong;
@@ -73,14 +85,17 @@ import org.opensearch.search.startree.filter.MatchAllFilter;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import static java.util.Collections.emptyList;
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
 
 /**
@@ -89,6 +104,11 @@ import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
  * @opensearch.internal
  */
 public class NumericTermsAggregator extends TermsAggregator implements StarTreePreComputeCollector {
+    /**
+     * The maximum number of distinct values of a segment that are counted from its point tree.
+     */
+    static final int MAX_POINT_VALUES_BUCKETS = 1024;
+
     private final ResultStrategy<?, ?> resultStrategy;
     private final ValuesSource.Numeric valuesSource;
     private final LongKeyedBucketOrds bucketOrds;
@@ -165,7 +185,176 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
             StarTreeQueryHelper.preComputeBucketsWithStarTree(starTreeBucketCollector);
             return true;
         }
-        return false;
+        return tryCollectFromPointValues(ctx);
+    }
+
+    /**
+     * Counts the values of the field in the segment from its point tree instead of its doc values when the top level
+     * query matches all documents or a range of the same field. Nodes of the tree whose points all have the same value
+     * are counted from their size without visiting their leaves, so low cardinality fields are collected without
+     * visiting most of the points.
+     *
+     * @param ctx the context for the given segment
+     * @return true if the segment was collected, false if it has to be collected document by document
+     */
+    boolean tryCollectFromPointValues(LeafReaderContext ctx) throws IOException {
+        if (parent != null
+            || subAggregators.length > 0
+            || fieldName == null
+            || resultStrategy instanceof StandardTermsResultStrategy == false
+            || context.minimumScore() != null
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return false;
+        }
+        MappedFieldType fieldType = context.mapperService().fieldType(fieldName);
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false || fieldType.isSearchable() == false) {
+            return false;
+        }
+        NumberFieldMapper.NumberType numberType = ((NumberFieldMapper.NumberFieldType) fieldType).numberType();
+        if (numberType == NumberFieldMapper.NumberType.UNSIGNED_LONG) {
+            return false;
+        }
+
+        if (ctx.reader().hasDeletions()) {
+            return false;
+        }
+        PointValues values = ctx.reader().getPointValues(fieldName);
+        // every document must have a single point to count documents from points
+        if (values == null || values.getNumDimensions() != 1 || values.getDocCount() != values.size()) {
+            return false;
+        }
+        NumericDocValues docCountValues = DocValues.getNumeric(ctx.reader(), DocCountFieldMapper.NAME);
+        if (docCountValues.nextDoc() != NO_MORE_DOCS) {
+            return false;
+        }
+
+        byte[] lowerPoint = null;
+        byte[] upperPoint = null;
+        Query query = AggregatorBridge.topLevelConcreteQuery(context);
+        if (query instanceof PointRangeQuery && ((PointRangeQuery) query).getField().equals(fieldName)) {
+            PointRangeQuery pointRangeQuery = (PointRangeQuery) query;
+            if (pointRangeQuery.getNumDims() != 1 || pointRangeQuery.getBytesPerDim() != values.getBytesPerDimension()) {
+                return false;
+            }
+            lowerPoint = pointRangeQuery.getLowerPoint();
+            upperPoint = pointRangeQuery.getUpperPoint();
+        } else {
+            // a range covering all the values of the field is rewritten into an exists query
+            boolean existsQuery = query instanceof FieldExistsQuery && ((FieldExistsQuery) query).getField().equals(fieldName);
+            if (existsQuery == false && AggregatorBridge.segmentMatchAll(context, ctx) == false) {
+                return false;
+            }
+        }
+
+        ToLongFunction<byte[]> decoder = valuesSource.isFloatingPoint()
+            ? packedValue -> NumericUtils.doubleToSortableLong(numberType.parsePoint(packedValue).doubleValue())
+            : packedValue -> numberType.parsePoint(packedValue).longValue();
+        PointValuesCounter counter = new PointValuesCounter(values.getBytesPerDimension(), lowerPoint, upperPoint, decoder);
+        if (counter.count(values.getPointTree()) == false) {
+            return false;
+        }
+        for (Map.Entry<Long, Long> entry : counter.counts.entrySet()) {
+            long value = entry.getKey();
+            if (longFilter == null || longFilter.accept(value)) {
+                long bucketOrd = bucketOrds.add(0, value);
+                if (bucketOrd < 0) { // already seen
+                    bucketOrd = -1 - bucketOrd;
+                }
+                incrementBucketDocCount(bucketOrd, entry.getValue());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the points of each distinct value of a one dimensional point tree that fall within an optional range.
+     * Counting gives up once more than {@link #MAX_POINT_VALUES_BUCKETS} distinct values are found, in which case the
+     * segment is better collected from its doc values.
+     */
+    private static class PointValuesCounter implements PointValues.IntersectVisitor {
+        private final ByteArrayComparator comparator;
+        private final byte[] lowerPoint;
+        private final byte[] upperPoint;
+        private final ToLongFunction<byte[]> decoder;
+        private final Map<Long, Long> counts = new HashMap<>();
+
+        PointValuesCounter(int bytesPerDim, byte[] lowerPoint, byte[] upperPoint, ToLongFunction<byte[]> decoder) {
+            this.comparator = ArrayUtil.getUnsignedComparator(bytesPerDim);
+            this.lowerPoint = lowerPoint;
+            this.upperPoint = upperPoint;
+            this.decoder = decoder;
+        }
+
+        boolean count(PointValues.PointTree tree) throws IOException {
+            byte[] minPackedValue = tree.getMinPackedValue();
+            byte[] maxPackedValue = tree.getMaxPackedValue();
+            if (compare(minPackedValue, maxPackedValue) == PointValues.Relation.CELL_OUTSIDE_QUERY) {
+                return true;
+            }
+            if (comparator.compare(minPackedValue, 0, maxPackedValue, 0) == 0) {
+                // all the points of the node have the same value which is within the range
+                add(decoder.applyAsLong(minPackedValue), tree.size());
+            } else if (tree.moveToChild()) {
+                do {
+                    if (count(tree) == false) {
+                        return false;
+                    }
+                } while (tree.moveToSibling());
+                tree.moveToParent();
+            } else {
+                tree.visitDocValues(this);
+            }
+            return counts.size() <= MAX_POINT_VALUES_BUCKETS;
+        }
+
+        private void add(long value, long count) {
+            counts.merge(value, count, Long::sum);
+        }
+
+        /**
+         * Never called: the BKD reader only visits doc ids without their values when a leaf is fully inside the query,
+         * which it checks for trees of more than one dimension only. One dimensional leaves are always visited with
+         * their values, even when {@link #compare} reports that they are fully inside the range.
+         */
+        @Override
+        public void visit(int docID) {
+            throw new AssertionError("one dimensional points are always visited with their values");
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) {
+            if (matches(packedValue)) {
+                add(decoder.applyAsLong(packedValue), 1);
+            }
+        }
+
+        @Override
+        public void visit(DocIdSetIterator iterator, byte[] packedValue) throws IOException {
+            if (matches(packedValue)) {
+                long count = 0;
+                while (iterator.nextDoc() != NO_MORE_DOCS) {
+                    count++;
+                }
+                add(decoder.applyAsLong(packedValue), count);
+            }
+        }
+
+        private boolean matches(byte[] packedValue) {
+            return (lowerPoint == null || comparator.compare(packedValue, 0, lowerPoint, 0) >= 0)
+                && (upperPoint == null || comparator.compare(packedValue, 0, upperPoint, 0) <= 0);
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            if ((lowerPoint != null && comparator.compare(maxPackedValue, 0, lowerPoint, 0) < 0)
+                || (upperPoint != null && comparator.compare(minPackedValue, 0, upperPoint, 0) > 0)) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            if (matches(minPackedValue) && matches(maxPackedValue)) {
+                return PointValues.Relation.CELL_INSIDE_QUERY;
+            }
+            return PointValues.Relation.CELL_CROSSES_QUERY;
+        }
     }
 
     @Override
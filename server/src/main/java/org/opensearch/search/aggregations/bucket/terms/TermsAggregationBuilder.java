@@ -86,6 +86,7 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
     );
     public static final ParseField SHOW_TERM_DOC_COUNT_ERROR = new ParseField("show_term_doc_count_error");
     public static final ParseField ORDER_FIELD = new ParseField("order");
+    public static final ParseField TWO_PHASE_FIELD = new ParseField("two_phase");
 
     public static final ObjectParser<TermsAggregationBuilder, String> PARSER = ObjectParser.fromBuilder(NAME, TermsAggregationBuilder::new);
     static {
@@ -95,6 +96,8 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
 
         PARSER.declareInt(TermsAggregationBuilder::shardSize, SHARD_SIZE_FIELD_NAME);
 
+        PARSER.declareBoolean(TermsAggregationBuilder::twoPhase, TWO_PHASE_FIELD);
+
         PARSER.declareLong(TermsAggregationBuilder::minDocCount, MIN_DOC_COUNT_FIELD_NAME);
 
         PARSER.declareLong(TermsAggregationBuilder::shardMinDocCount, SHARD_MIN_DOC_COUNT_FIELD_NAME);
@@ -143,6 +146,7 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         DEFAULT_BUCKET_COUNT_THRESHOLDS
     );
     private boolean showTermDocCountError = false;
+    private boolean twoPhase = false;
 
     public TermsAggregationBuilder(String name) {
         super(name);
@@ -160,6 +164,7 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         this.collectMode = clone.collectMode;
         this.bucketCountThresholds = new BucketCountThresholds(clone.bucketCountThresholds);
         this.showTermDocCountError = clone.showTermDocCountError;
+        this.twoPhase = clone.twoPhase;
     }
 
     @Override
@@ -183,6 +188,9 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         includeExclude = in.readOptionalWriteable(IncludeExclude::new);
         order = InternalOrder.Streams.readOrder(in);
         showTermDocCountError = in.readBoolean();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            twoPhase = in.readBoolean();
+        }
     }
 
     @Override
@@ -198,6 +206,9 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         out.writeOptionalWriteable(includeExclude);
         order.writeTo(out);
         out.writeBoolean(showTermDocCountError);
+        if (out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeBoolean(twoPhase);
+        }
     }
 
     /**
@@ -379,6 +390,59 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         return this;
     }
 
+    /**
+     * Get whether the top terms are computed in two rounds, see {@link #twoPhase(boolean)}.
+     */
+    public boolean twoPhase() {
+        return twoPhase;
+    }
+
+    /**
+     * Set whether the top terms are computed in two rounds: the first round collects the candidate terms of every
+     * shard, and the second one asks the shards for the exact counts of the candidates that may make it into the top
+     * terms. This gives exact counts for the returned terms, and no error at all whenever it can be proven that no
+     * other term can have a higher count, without having to raise {@code shard_size}.
+     * <p>
+     * Only applies to top level terms aggregations ordered by descending count, it is ignored otherwise.
+     */
+    public TermsAggregationBuilder twoPhase(boolean twoPhase) {
+        this.twoPhase = twoPhase;
+        return this;
+    }
+
+    /**
+     * The aggregation of the first round of a two phase execution, which keeps {@code shardSize} merged terms on the
+     * coordinating node and leaves out the sub-aggregations, they are only computed for the final terms.
+     */
+    TermsAggregationBuilder firstRound(int shardSize) {
+        TermsAggregationBuilder firstRound = new TermsAggregationBuilder(this, AggregatorFactories.builder(), metadata);
+        firstRound.size(shardSize).shardSize(shardSize);
+        if (minDocCount() > 1) {
+            // terms that are below min_doc_count in the first round may still reach it with exact counts
+            firstRound.minDocCount(1);
+        }
+        return firstRound;
+    }
+
+    /**
+     * The aggregation of the second round of a two phase execution, which computes the exact counts of the candidates.
+     */
+    TermsAggregationBuilder secondRound(String[] candidates) {
+        TermsAggregationBuilder secondRound = new TermsAggregationBuilder(this, factoriesBuilder, metadata);
+        secondRound.twoPhase(false).includeExclude(new IncludeExclude(candidates, null));
+        // every shard must return all of its candidates for their counts to be exact
+        secondRound.shardSize(Math.max(candidates.length + 1, size())).shardMinDocCount(0);
+        return secondRound;
+    }
+
+    /**
+     * The aggregation of the second round of a two phase execution when the terms of the first round cannot be used to
+     * restrict it, which computes the aggregation in a single round.
+     */
+    TermsAggregationBuilder singleRound() {
+        return new TermsAggregationBuilder(this, factoriesBuilder, metadata).twoPhase(false);
+    }
+
     @Override
     public BucketCardinality bucketCardinality() {
         return BucketCardinality.MANY;
@@ -422,6 +486,9 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
         if (includeExclude != null) {
             includeExclude.toXContent(builder, params);
         }
+        if (twoPhase) {
+            builder.field(TWO_PHASE_FIELD.getPreferredName(), twoPhase);
+        }
         return builder;
     }
 
@@ -434,7 +501,8 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
             executionHint,
             includeExclude,
             order,
-            showTermDocCountError
+            showTermDocCountError,
+            twoPhase
         );
     }
 
@@ -449,7 +517,8 @@ public class TermsAggregationBuilder extends ValuesSourceAggregationBuilder<Term
             && Objects.equals(executionHint, other.executionHint)
             && Objects.equals(includeExclude, other.includeExclude)
             && Objects.equals(order, other.order)
-            && Objects.equals(showTermDocCountError, other.showTermDocCountError);
+            && Objects.equals(showTermDocCountError, other.showTermDocCountError)
+            && Objects.equals(twoPhase, other.twoPhase);
     }
 
     @Override
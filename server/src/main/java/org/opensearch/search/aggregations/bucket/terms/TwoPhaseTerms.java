@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalOrder;
+import org.opensearch.search.aggregations.bucket.BucketUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinating node side of the two phase execution of top level {@code terms} aggregations, see
+ * {@link TermsAggregationBuilder#twoPhase(boolean)}.
+ * <p>
+ * The first round is a regular terms aggregation, except that the coordinating node keeps {@code shard_size} merged terms
+ * instead of {@code size}. A term that a shard did not return has at most the count of the last term returned by that
+ * shard there, so every merged term has an upper bound on its count, and so do the terms that were not returned at all.
+ * The terms whose upper bound reaches the count of the {@code size}-th term are the candidates, and the second round
+ * computes their exact counts by restricting the aggregation to them. The doc count error of the final result is the
+ * upper bound of the terms that were not candidates, or 0 if none of them can beat the returned terms.
+ *
+ * @opensearch.internal
+ */
+public final class TwoPhaseTerms {
+
+    private TwoPhaseTerms() {}
+
+    /**
+     * Whether the given top level aggregation is a terms aggregation that must be executed in two rounds.
+     */
+    public static boolean isTwoPhase(AggregationBuilder builder) {
+        return builder instanceof TermsAggregationBuilder terms
+            && terms.twoPhase()
+            && InternalOrder.isCountDesc(terms.order())
+            // the missing value cannot be used to restrict the aggregation to the candidates
+            && terms.missing() == null;
+    }
+
+    /**
+     * Returns the aggregation to execute in the first round.
+     */
+    public static TermsAggregationBuilder firstRound(TermsAggregationBuilder builder) {
+        return builder.firstRound(shardSize(builder));
+    }
+
+    /**
+     * Whether the final result of the given aggregation needs the second round even if the counts of the first round are
+     * exact. The first round leaves out the sub-aggregations and lowers {@code min_doc_count} to 1, so its buckets are
+     * only final for aggregations that have neither.
+     */
+    public static boolean requiresSecondRound(TermsAggregationBuilder builder, InternalAggregation firstRound) {
+        if (firstRound instanceof InternalTerms == false || firstRound instanceof UnmappedTerms) {
+            return false;
+        }
+        if (((InternalTerms<?, ?>) firstRound).getBuckets().isEmpty()) {
+            return false;
+        }
+        return builder.getSubAggregations().isEmpty() == false
+            || builder.getPipelineAggregations().isEmpty() == false
+            || builder.minDocCount() > 1;
+    }
+
+    /**
+     * Returns the aggregation to execute in the second round, or {@code null} if the first round result is already final.
+     * If the terms of the first round cannot be used to restrict the aggregation but its result is not final, the second
+     * round runs the aggregation in a single round.
+     */
+    @Nullable
+    public static TermsAggregationBuilder secondRound(TermsAggregationBuilder builder, InternalAggregation firstRound) {
+        boolean requiresSecondRound = requiresSecondRound(builder, firstRound);
+        if (firstRound instanceof StringTerms == false
+            && firstRound instanceof LongTerms == false
+            && firstRound instanceof DoubleTerms == false) {
+            return requiresSecondRound ? builder.singleRound() : null;
+        }
+        InternalTerms<?, ?> terms = (InternalTerms<?, ?>) firstRound;
+        List<? extends InternalTerms.Bucket<?>> buckets = terms.getBuckets();
+        if (buckets.isEmpty()) {
+            return null;
+        }
+        long unseenUpperBound = unseenUpperBound(terms, shardSize(builder));
+        int size = Math.min(builder.size(), buckets.size());
+        long threshold = buckets.get(size - 1).getDocCount();
+        List<String> candidates = new ArrayList<>();
+        boolean exact = unseenUpperBound != -1 && unseenUpperBound < threshold;
+        for (int i = 0; i < buckets.size(); i++) {
+            InternalTerms.Bucket<?> bucket = buckets.get(i);
+            if (firstRound instanceof StringTerms == false && bucket.format != DocValueFormat.RAW) {
+                // formatted numbers, such as dates, may not parse back to the same term
+                return requiresSecondRound ? builder.singleRound() : null;
+            }
+            // the per term error is always computed, even if it is not shown
+            long docCountError = bucket.docCountError;
+            if (docCountError == -1 || bucket.getDocCount() + docCountError >= threshold) {
+                candidates.add(bucket.getKeyAsString());
+                exact &= i < size && docCountError == 0;
+            }
+        }
+        if ((exact || unseenUpperBound == 0) && requiresSecondRound == false) {
+            // no term can be missing from the top terms and their counts are exact
+            return null;
+        }
+        return builder.secondRound(candidates.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the final result of the aggregation given the results of both rounds. The second round result is
+     * {@code null} if there was no second round, in which case the first round result is trimmed to {@code size}.
+     */
+    public static InternalAggregation merge(
+        TermsAggregationBuilder builder,
+        InternalAggregation firstRound,
+        @Nullable InternalAggregation secondRound
+    ) {
+        if (firstRound instanceof InternalTerms == false || firstRound instanceof UnmappedTerms) {
+            return firstRound;
+        }
+        InternalTerms<?, ?> first = (InternalTerms<?, ?>) firstRound;
+        long unseenUpperBound = unseenUpperBound(first, shardSize(builder));
+        long totalDocCount = first.getSumOfOtherDocCounts() + sumDocCount(first.getBuckets());
+        if (secondRound != null && secondRound.getClass() == firstRound.getClass()) {
+            return withTopBuckets((InternalTerms<?, ?>) secondRound, builder.size(), unseenUpperBound, totalDocCount);
+        }
+        return withTopBuckets(first, builder.size(), unseenUpperBound, totalDocCount);
+    }
+
+    private static <A extends InternalTerms<A, B>, B extends InternalTerms.Bucket<B>> A withTopBuckets(
+        InternalTerms<A, B> terms,
+        int size,
+        long unseenUpperBound,
+        long totalDocCount
+    ) {
+        List<B> buckets = terms.getBuckets();
+        List<B> top = new ArrayList<>(buckets.subList(0, Math.min(size, buckets.size())));
+        long otherDocCount = Math.max(0, totalDocCount - sumDocCount(top));
+        long docCountError;
+        if (unseenUpperBound == -1) {
+            docCountError = -1;
+        } else {
+            long lowest = top.size() < size ? 0 : top.get(top.size() - 1).getDocCount();
+            boolean exactCounts = top.stream().allMatch(bucket -> bucket.docCountError == 0);
+            docCountError = unseenUpperBound == 0 || (exactCounts && unseenUpperBound < lowest) ? 0 : unseenUpperBound;
+        }
+        return terms.create(terms.getName(), top, terms.order, docCountError, otherDocCount);
+    }
+
+    /**
+     * The highest count that a term that is not part of the first round result may have.
+     */
+    private static long unseenUpperBound(InternalTerms<?, ?> terms, int shardSize) {
+        long docCountError = terms.getDocCountError();
+        List<? extends InternalTerms.Bucket<?>> buckets = terms.getBuckets();
+        if (docCountError == -1 || buckets.size() < shardSize) {
+            return docCountError;
+        }
+        // merged terms were dropped, each of them has at most the count of the last term plus the error of the shards
+        // that did not return it
+        return buckets.get(buckets.size() - 1).getDocCount() + docCountError;
+    }
+
+    private static long sumDocCount(List<? extends InternalTerms.Bucket<?>> buckets) {
+        long sum = 0;
+        for (InternalTerms.Bucket<?> bucket : buckets) {
+            sum += bucket.getDocCount();
+        }
+        return sum;
+    }
+
+    private static int shardSize(TermsAggregationBuilder builder) {
+        return builder.shardSize() > 0
+            ? Math.max(builder.shardSize(), builder.size())
+            : BucketUtils.suggestShardSideQueueSize(builder.size());
+    }
+}
@@ -8,6 +8,8 @@
 
 package org.opensearch.search.approximate;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
@@ -16,6 +18,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.FieldSortBuilder;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -54,6 +57,11 @@ public class ApproximateMatchAllQuery extends ApproximateQuery {
                 if (mappedFieldType == null) {
                     return false;
                 }
+                if (context.searchAfter() != null && allDocsHaveField(context, primarySortField.fieldName()) == false) {
+                    // the approximation only visits documents that have the field, the documents missing it sort last and
+                    // would never be returned when paginating up to them
+                    return false;
+                }
                 Query rangeQuery = mappedFieldType.rangeQuery(null, null, false, false, null, null, null, context.getQueryShardContext());
                 if (rangeQuery instanceof ApproximateScoreQuery approximateScoreQuery) {
                     approximateScoreQuery.setContext(context);
@@ -67,6 +75,20 @@ public class ApproximateMatchAllQuery extends ApproximateQuery {
         return false;
     }
 
+    private static boolean allDocsHaveField(SearchContext context, String field) {
+        try {
+            for (LeafReaderContext leaf : context.searcher().getIndexReader().leaves()) {
+                PointValues values = leaf.reader().getPointValues(field);
+                if (values == null || values.getDocCount() != leaf.reader().maxDoc()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public String toString(String field) {
         return "Approximate(*:*)";
@@ -20,6 +20,7 @@ import org.apache.lucene.sandbox.document.HalfFloatPoint;
 import org.apache.lucene.search.ConstantScoreScorer;
 import org.apache.lucene.search.ConstantScoreWeight;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
@@ -31,11 +32,14 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.DocIdSetBuilder;
 import org.apache.lucene.util.IntsRef;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortMode;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -57,6 +61,16 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
     public final PointRangeQuery pointRangeQuery;
 
+    private final Function<byte[], String> valueToString;
+
+    // the bounds that are actually visited, narrowed down by search_after and the bottom sort value of the other shards
+    private byte[] lowerPoint;
+    private byte[] upperPoint;
+    private boolean narrowed;
+
+    // set when search_after is applied: documents sorting equal to the search_after value don't count towards size
+    private byte[] searchAfterPoint;
+
     public ApproximatePointRangeQuery(
         String field,
         byte[] lowerPoint,
@@ -78,12 +92,15 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
     ) {
         this.size = size;
         this.sortOrder = sortOrder;
+        this.valueToString = valueToString;
         this.pointRangeQuery = new PointRangeQuery(field, lowerPoint, upperPoint, numDims) {
             @Override
             protected String toString(int dimension, byte[] value) {
                 return valueToString.apply(value);
             }
         };
+        this.lowerPoint = pointRangeQuery.getLowerPoint();
+        this.upperPoint = pointRangeQuery.getUpperPoint();
     }
 
     public int getSize() {
@@ -115,6 +132,10 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
     @Override
     public final ConstantScoreWeight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
         Weight pointRangeQueryWeight = pointRangeQuery.createWeight(searcher, scoreMode, boost);
+        final byte[] lowerPoint = this.lowerPoint;
+        final byte[] upperPoint = this.upperPoint;
+        final byte[] searchAfterPoint = this.searchAfterPoint;
+        final boolean narrowed = this.narrowed;
 
         return new ConstantScoreWeight(this, boost) {
 
@@ -124,11 +145,11 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
             private boolean matches(byte[] packedValue) {
                 for (int dim = 0; dim < pointRangeQuery.getNumDims(); dim++) {
                     int offset = dim * pointRangeQuery.getBytesPerDim();
-                    if (comparator.compare(packedValue, offset, pointRangeQuery.getLowerPoint(), offset) < 0) {
+                    if (comparator.compare(packedValue, offset, lowerPoint, offset) < 0) {
                         // Doc's value is too low, in this dimension
                         return false;
                     }
-                    if (comparator.compare(packedValue, offset, pointRangeQuery.getUpperPoint(), offset) > 0) {
+                    if (comparator.compare(packedValue, offset, upperPoint, offset) > 0) {
                         // Doc's value is too high, in this dimension
                         return false;
                     }
@@ -144,13 +165,13 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 for (int dim = 0; dim < pointRangeQuery.getNumDims(); dim++) {
                     int offset = dim * pointRangeQuery.getBytesPerDim();
 
-                    if (comparator.compare(minPackedValue, offset, pointRangeQuery.getUpperPoint(), offset) > 0
-                        || comparator.compare(maxPackedValue, offset, pointRangeQuery.getLowerPoint(), offset) < 0) {
+                    if (comparator.compare(minPackedValue, offset, upperPoint, offset) > 0
+                        || comparator.compare(maxPackedValue, offset, lowerPoint, offset) < 0) {
                         return PointValues.Relation.CELL_OUTSIDE_QUERY;
                     }
 
-                    crosses |= comparator.compare(minPackedValue, offset, pointRangeQuery.getLowerPoint(), offset) < 0
-                        || comparator.compare(maxPackedValue, offset, pointRangeQuery.getUpperPoint(), offset) > 0;
+                    crosses |= comparator.compare(minPackedValue, offset, lowerPoint, offset) < 0
+                        || comparator.compare(maxPackedValue, offset, upperPoint, offset) > 0;
                 }
 
                 if (crosses) {
@@ -343,6 +364,38 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 pointTree.moveToParent();
             }
 
+            // counts the points that are equal to the given point, visiting only the cells that may contain it
+            private long countPoints(PointValues values, byte[] point) throws IOException {
+                long[] count = { 0 };
+                values.intersect(new PointValues.IntersectVisitor() {
+                    @Override
+                    public void visit(int docID) {
+                        count[0]++;
+                    }
+
+                    @Override
+                    public void visit(int docID, byte[] packedValue) {
+                        if (comparator.compare(packedValue, 0, point, 0) == 0) {
+                            count[0]++;
+                        }
+                    }
+
+                    @Override
+                    public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+                        int minCmp = comparator.compare(minPackedValue, 0, point, 0);
+                        int maxCmp = comparator.compare(maxPackedValue, 0, point, 0);
+                        if (minCmp > 0 || maxCmp < 0) {
+                            return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                        }
+                        if (minCmp == 0 && maxCmp == 0) {
+                            return PointValues.Relation.CELL_INSIDE_QUERY;
+                        }
+                        return PointValues.Relation.CELL_CROSSES_QUERY;
+                    }
+                });
+                return count[0];
+            }
+
             @Override
             public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
                 LeafReader reader = context.reader();
@@ -352,7 +405,17 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                 if (checkValidPointValues(values) == false) {
                     return null;
                 }
-                if (size > values.size()) {
+                if (narrowed && values.getDocCount() != values.size()) {
+                    // the narrowed bounds assume that the point a document is found at is its sort value, which only holds
+                    // when every document of the segment has a single value
+                    return pointRangeQueryWeight.scorerSupplier(context);
+                }
+                if (searchAfterPoint != null) {
+                    // documents equal to the search_after value are rejected by the collector unless they come after the
+                    // search_after doc, so they must not be counted in the documents we collect
+                    docCount[0] = -countPoints(values, searchAfterPoint);
+                }
+                if (size > values.size() && narrowed == false) {
                     return pointRangeQueryWeight.scorerSupplier(context);
                 } else {
                     if (sortOrder == null || sortOrder.equals(SortOrder.ASC)) {
@@ -413,7 +476,7 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
 
             @Override
             public int count(LeafReaderContext context) throws IOException {
-                return pointRangeQueryWeight.count(context);
+                return narrowed ? -1 : pointRangeQueryWeight.count(context);
             }
 
             @Override
@@ -446,11 +509,16 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
             // With +1, we will consistently get GREATER_THAN_OR_EQUAL_TO relation.
             this.setSize(Math.max(context.from() + context.size(), context.trackTotalHitsUpTo()) + 1);
         }
+        this.lowerPoint = pointRangeQuery.getLowerPoint();
+        this.upperPoint = pointRangeQuery.getUpperPoint();
+        this.searchAfterPoint = null;
+        this.narrowed = false;
         if (context.request() != null && context.request().source() != null) {
             if (context.request().source().sorts() != null && context.request().source().sorts().size() > 1) {
                 return false;
             }
             FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
+            FieldDoc searchAfter = context.searchAfter();
             if (primarySortField != null) {
                 if (!primarySortField.fieldName().equals(pointRangeQuery.getField())) {
                     return false;
@@ -459,18 +527,114 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
                     // Cannot sort documents missing this field.
                     return false;
                 }
-                if (context.request().source().searchAfter() != null) {
-                    // TODO: We *could* optimize searchAfter, especially when this is the only sort field, but existing pruning is pretty
-                    // good.
-                    return false;
-                }
                 this.setSortOrder(primarySortField.order());
+                if (searchAfter != null || context.request().source().searchAfter() != null) {
+                    if (searchAfter == null || applySearchAfter(context, primarySortField, searchAfter) == false) {
+                        return false;
+                    }
+                }
+                applyBottomSortValues(context, primarySortField);
+            } else if (searchAfter != null || context.request().source().searchAfter() != null) {
+                return false;
             }
             return context.request().source().terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER;
         }
         return true;
     }
 
+    /**
+     * Only visits the points that sort after the search_after value, so that a deep page costs about the same as the first
+     * one. Returns {@code false} if this is not possible, in which case this query must not be approximated since the
+     * first documents of the range would be collected and then rejected by the collector.
+     */
+    private boolean applySearchAfter(SearchContext context, FieldSortBuilder sortField, FieldDoc searchAfter) {
+        if (canNarrow(context, sortField) == false || searchAfter.fields.length != 1) {
+            return false;
+        }
+        byte[] point = encodeSortValue(searchAfter.fields[0]);
+        if (point == null) {
+            return false;
+        }
+        // the search_after value is inclusive since ties are broken by shard and doc id
+        if (sortOrder == SortOrder.DESC) {
+            upperPoint = min(upperPoint, point);
+        } else {
+            lowerPoint = max(lowerPoint, point);
+        }
+        searchAfterPoint = point;
+        narrowed = true;
+        return true;
+    }
+
+    /**
+     * Stops at the bottom sort value of the top documents collected by the shards that already returned, since documents
+     * that sort after it cannot make it into the final top documents.
+     */
+    private void applyBottomSortValues(SearchContext context, FieldSortBuilder sortField) {
+        SearchSortValuesAndFormats bottomSortValues = context.request().getBottomSortValues();
+        if (bottomSortValues == null || bottomSortValues.getRawSortValues().length == 0 || canNarrow(context, sortField) == false) {
+            return;
+        }
+        byte[] point = encodeSortValue(bottomSortValues.getRawSortValues()[0]);
+        if (point == null) {
+            return;
+        }
+        if (sortOrder == SortOrder.DESC) {
+            lowerPoint = max(lowerPoint, point);
+        } else {
+            upperPoint = min(upperPoint, point);
+        }
+        narrowed = true;
+    }
+
+    /**
+     * The bounds may only be narrowed when the hit count is not tracked, since the documents that are outside of the
+     * narrowed bounds would not be counted, and when the sort value of a document is one of its points. Segments where
+     * some documents have several values are not narrowed.
+     */
+    private boolean canNarrow(SearchContext context, FieldSortBuilder sortField) {
+        return context.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED
+            && pointRangeQuery.getNumDims() == 1
+            && sortField.getNestedSort() == null
+            && sortField.getNumericType() == null
+            && (sortField.sortMode() == null || sortField.sortMode() == SortMode.MIN || sortField.sortMode() == SortMode.MAX);
+    }
+
+    /**
+     * Encodes a sort value of this field like its points, or returns {@code null} if it cannot be encoded exactly.
+     */
+    private byte[] encodeSortValue(Object value) {
+        byte[] point = null;
+        if (valueToString == LONG_FORMAT && value instanceof Long) {
+            point = new byte[Long.BYTES];
+            LongPoint.encodeDimension((Long) value, point, 0);
+        } else if (valueToString == INT_FORMAT && (value instanceof Integer || value instanceof Long)) {
+            long longValue = ((Number) value).longValue();
+            if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                point = new byte[Integer.BYTES];
+                IntPoint.encodeDimension((int) longValue, point, 0);
+            }
+        } else if (valueToString == FLOAT_FORMAT && value instanceof Float) {
+            point = new byte[Float.BYTES];
+            FloatPoint.encodeDimension((Float) value, point, 0);
+        } else if (valueToString == DOUBLE_FORMAT && value instanceof Double) {
+            point = new byte[Double.BYTES];
+            DoublePoint.encodeDimension((Double) value, point, 0);
+        } else if (valueToString == UNSIGNED_LONG_FORMAT && value instanceof BigInteger) {
+            point = new byte[BigIntegerPoint.BYTES];
+            BigIntegerPoint.encodeDimension((BigInteger) value, point, 0);
+        }
+        return point != null && point.length == pointRangeQuery.getBytesPerDim() ? point : null;
+    }
+
+    private byte[] min(byte[] a, byte[] b) {
+        return ArrayUtil.getUnsignedComparator(pointRangeQuery.getBytesPerDim()).compare(a, 0, b, 0) <= 0 ? a : b;
+    }
+
+    private byte[] max(byte[] a, byte[] b) {
+        return ArrayUtil.getUnsignedComparator(pointRangeQuery.getBytesPerDim()).compare(a, 0, b, 0) >= 0 ? a : b;
+    }
+
     @Override
     public final int hashCode() {
         return pointRangeQuery.hashCode();
@@ -1221,6 +1221,13 @@ public final class SearchSourceBuilder implements Writeable, ToXContentObject, R
         return shallowCopy(queryBuilder, postQueryBuilder, aggregations, sliceBuilder, sorts, rescoreBuilders, highlightBuilder);
     }
 
+    /**
+     * Create a shallow copy of this builder with the given aggregations.
+     */
+    public SearchSourceBuilder shallowCopy(AggregatorFactories.Builder aggregations) {
+        return shallowCopy(queryBuilder, postQueryBuilder, aggregations, sliceBuilder, sorts, rescoreBuilders, highlightBuilder);
+    }
+
     /**
      * Create a shallow copy of this source replaced {@link #queryBuilder}, {@link #postQueryBuilder}, and {@link #sliceBuilder}. Used by
      * {@link #rewrite(QueryRewriteContext)}}.
@@ -85,6 +85,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -99,6 +100,11 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    /**
+     * Below this number of hits, the overhead of forking tasks outweighs fetching the segments concurrently.
+     */
+    static final int MIN_DOCS_FOR_CONCURRENT_FETCH = 32;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -143,6 +149,15 @@ public class FetchPhase {
         // make sure that we iterate in doc id order
         Arrays.sort(docs);
 
+        if (breakdown == null && canFetchConcurrently(context)) {
+            SearchHit[] hits = fetchConcurrently(context, docs);
+            if (context.isCancelled()) {
+                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+            }
+            context.fetchResult().hits(new SearchHits(hits, context.queryResult().getTotalHits(), context.queryResult().getMaxScore()));
+            return;
+        }
+
         Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
         FieldsVisitor fieldsVisitor = profile(
             breakdown,
@@ -262,6 +277,105 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Hits can be fetched concurrently per segment unless the fetch phase is profiled, or inner hits are requested
+     * since their sub-contexts keep per-hit state that is shared across segments.
+     */
+    private static boolean canFetchConcurrently(SearchContext context) {
+        return context.concurrentFetchEnabled()
+            && context.getProfilers() == null
+            && context.innerHits().getInnerHits().isEmpty()
+            && context.docIdsToLoadSize() >= MIN_DOCS_FOR_CONCURRENT_FETCH;
+    }
+
+    /**
+     * Fetches the hits of each segment as an independent task on the searcher's executor. Each task has its own
+     * stored fields visitor, lookup and sub-phase processors, and reads the documents of its segment in doc id order.
+     * The hits are written to their rank in the returned array.
+     */
+    private SearchHit[] fetchConcurrently(SearchContext context, DocIdToIndex[] docs) {
+        SearchHit[] hits = new SearchHit[docs.length];
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+            // docs are sorted by doc id, so the docs of a segment are adjacent
+            int maxDoc = leaf.docBase + leaf.reader().maxDoc();
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < maxDoc) {
+                to++;
+            }
+            // the processors and visitors are created up-front as this may update the search context
+            FetchContext fetchContext = new FetchContext(context);
+            Map<String, Set<String>> storedToRequestedFields = new HashMap<>();
+            FieldsVisitor fieldsVisitor = createStoredFieldsVisitor(context, storedToRequestedFields);
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = getProcessors(context.shardTarget(), fetchContext);
+            final int start = from;
+            final int end = to;
+            tasks.add(() -> {
+                fetchSegment(context, fetchContext, fieldsVisitor, storedToRequestedFields, processors, leaf, docs, start, end, hits);
+                return null;
+            });
+            from = to;
+        }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e);
+        }
+        return hits;
+    }
+
+    private void fetchSegment(
+        SearchContext context,
+        FetchContext fetchContext,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        LeafReaderContext leaf,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        SearchHit[] hits
+    ) throws IOException {
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+        if (leaf.reader() instanceof SequentialStoredFieldsLeafReader && hasSequentialDocs(docs, from, to) && to - from >= 10) {
+            // same as in the sequential fetch, but decided per segment since each segment is read on its own
+            SequentialStoredFieldsLeafReader lf = (SequentialStoredFieldsLeafReader) leaf.reader();
+            fieldReader = lf.getSequentialStoredFieldsReader()::document;
+        } else {
+            fieldReader = leaf.reader().storedFields()::document;
+        }
+        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+            p.v1().setNextReader(leaf);
+        }
+        for (int index = from; index < to; index++) {
+            if (context.isCancelled()) {
+                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+            }
+            int docId = docs[index].docId;
+            try {
+                HitContext hit = prepareHitContext(
+                    context,
+                    fetchContext.searchLookup(),
+                    fieldsVisitor,
+                    docId,
+                    storedToRequestedFields,
+                    leaf,
+                    fieldReader,
+                    null
+                );
+                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                    p.v1().process(hit);
+                }
+                hits[docs[index].index] = hit.hit();
+            } catch (Exception e) {
+                throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
+            }
+        }
+    }
+
     static class DocIdToIndex implements Comparable<DocIdToIndex> {
         final int docId;
         final int index;
@@ -704,6 +818,10 @@ public class FetchPhase {
      * stored sequentially (Dn = Dn-1 + 1).
      */
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
+        return hasSequentialDocs(docs, 0, docs.length);
+    }
+
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
     }
 }
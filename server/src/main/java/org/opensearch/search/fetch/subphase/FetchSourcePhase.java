@@ -35,6 +35,7 @@ package org.opensearch.search.fetch.subphase;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.support.XContentStreamFilter;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.search.SearchHit;
@@ -61,6 +62,9 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
         String index = fetchContext.getIndexName();
         assert fetchSourceContext.fetchSource();
+        XContentStreamFilter streamFilter = containsFilters(fetchSourceContext)
+            ? XContentStreamFilter.of(fetchSourceContext.includes(), fetchSourceContext.excludes())
+            : null;
 
         return new FetchSubPhaseProcessor() {
             @Override
@@ -70,12 +74,17 @@ public final class FetchSourcePhase implements FetchSubPhase {
 
             @Override
             public void process(HitContext hitContext) {
-                hitExecute(index, fetchSourceContext, hitContext);
+                hitExecute(index, fetchSourceContext, streamFilter, hitContext);
             }
         };
     }
 
-    private void hitExecute(String index, FetchSourceContext fetchSourceContext, HitContext hitContext) {
+    private void hitExecute(
+        String index,
+        FetchSourceContext fetchSourceContext,
+        XContentStreamFilter streamFilter,
+        HitContext hitContext
+    ) {
 
         final boolean nestedHit = hitContext.hit().getNestedIdentity() != null;
         SourceLookup source = hitContext.sourceLookup();
@@ -96,6 +105,17 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If this is a parent document whose source has not been parsed yet, then filter the source while streaming it
+        // so that only the selected properties are read into the hit, instead of materializing the whole source as a map.
+        if (nestedHit == false && source.source() == null) {
+            try {
+                hitContext.hit().sourceRef(streamFilter.filter(source.internalSourceRef()));
+            } catch (IOException e) {
+                throw new OpenSearchException("Error filtering source", e);
+            }
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
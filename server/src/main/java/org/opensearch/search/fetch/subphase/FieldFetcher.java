@@ -34,7 +34,11 @@ package org.opensearch.search.fetch.subphase;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.xcontent.support.XContentStreamFilter;
+import org.opensearch.core.common.Strings;
+import org.opensearch.index.mapper.ArraySourceValueFetcher;
 import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.SourceValueFetcher;
 import org.opensearch.index.mapper.ValueFetcher;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.lookup.SearchLookup;
@@ -44,6 +48,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +63,8 @@ public class FieldFetcher {
     public static FieldFetcher create(QueryShardContext context, SearchLookup searchLookup, Collection<FieldAndFormat> fieldAndFormats) {
 
         List<FieldContext> fieldContexts = new ArrayList<>();
+        Set<String> sourcePaths = new HashSet<>();
+        boolean onlySourceValues = true;
 
         for (FieldAndFormat fieldAndFormat : fieldAndFormats) {
             String fieldPattern = fieldAndFormat.field;
@@ -70,20 +77,34 @@ public class FieldFetcher {
                     continue;
                 }
                 ValueFetcher valueFetcher = ft.valueFetcher(context, searchLookup, format);
+                if (valueFetcher instanceof SourceValueFetcher) {
+                    sourcePaths.addAll(((SourceValueFetcher) valueFetcher).sourcePaths());
+                } else if (valueFetcher instanceof ArraySourceValueFetcher) {
+                    sourcePaths.addAll(((ArraySourceValueFetcher) valueFetcher).sourcePaths());
+                } else {
+                    onlySourceValues = false;
+                }
                 fieldContexts.add(new FieldContext(field, valueFetcher));
             }
         }
 
-        return new FieldFetcher(fieldContexts);
+        // When all the values come from known source paths, only these paths need to be read from the source.
+        XContentStreamFilter sourceFilter = onlySourceValues && sourcePaths.isEmpty() == false
+            ? XContentStreamFilter.of(sourcePaths.toArray(new String[0]), Strings.EMPTY_ARRAY)
+            : null;
+        return new FieldFetcher(fieldContexts, sourceFilter);
     }
 
     private final List<FieldContext> fieldContexts;
+    private final XContentStreamFilter sourceFilter;
 
-    private FieldFetcher(List<FieldContext> fieldContexts) {
+    private FieldFetcher(List<FieldContext> fieldContexts, XContentStreamFilter sourceFilter) {
         this.fieldContexts = fieldContexts;
+        this.sourceFilter = sourceFilter;
     }
 
     public Map<String, DocumentField> fetch(SourceLookup sourceLookup, Set<String> ignoredFields) throws IOException {
+        sourceLookup = filteredSourceLookup(sourceLookup);
         Map<String, DocumentField> documentFields = new HashMap<>();
         for (FieldContext context : fieldContexts) {
             String field = context.fieldName;
@@ -101,6 +122,19 @@ public class FieldFetcher {
         return documentFields;
     }
 
+    /**
+     * Returns a lookup over the fetched source paths only, which are filtered while streaming the source bytes, unless
+     * the source has already been parsed into a map that can be used directly.
+     */
+    private SourceLookup filteredSourceLookup(SourceLookup sourceLookup) throws IOException {
+        if (sourceFilter == null || sourceLookup.source() != null || sourceLookup.internalSourceRef() == null) {
+            return sourceLookup;
+        }
+        SourceLookup filtered = new SourceLookup();
+        filtered.setSource(SourceLookup.sourceAsMap(sourceFilter.filter(sourceLookup.internalSourceRef())));
+        return filtered;
+    }
+
     public void setNextReader(LeafReaderContext readerContext) {
         for (FieldContext field : fieldContexts) {
             field.valueFetcher.setNextReader(readerContext);
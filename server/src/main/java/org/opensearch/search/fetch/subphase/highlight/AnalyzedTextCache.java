@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PayloadAttribute;
+import org.apache.lucene.util.AttributeImpl;
+import org.apache.lucene.util.AttributeSource.State;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.IndexSettings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A bounded, node level cache of the tokens produced when analyzing field values for highlighting.
+ * <p>
+ * When a field is indexed with neither offsets nor term vectors, the unified highlighter re-analyzes the field value of
+ * every highlighted hit. Hits that are highlighted repeatedly, for instance by search-as-you-type queries, then pay for
+ * the same analysis over and over. Analyzers wrapped by this cache replay the tokens of a field value that has already
+ * been analyzed for the same field of the same index instead.
+ * <p>
+ * Entries are keyed by the index UUID, mapping and settings versions rather than by analyzer, so that the cache does not
+ * retain the analyzers of closed or deleted indices. Their entries are evicted like any other least recently used entry.
+ *
+ * @opensearch.internal
+ */
+public final class AnalyzedTextCache {
+
+    /**
+     * The maximum memory used by the cache, disabled by default.
+     */
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.memorySizeSetting(
+        "search.highlight.analyzed_text_cache.size",
+        new ByteSizeValue(0),
+        Property.NodeScope
+    );
+
+    // rough per-token overhead of the captured attributes, on top of the term chars and payload bytes
+    private static final long TOKEN_OVERHEAD_BYTES = 128;
+
+    private final Cache<Key, Tokens> cache;
+
+    AnalyzedTextCache(long maxWeightInBytes) {
+        this.cache = CacheBuilder.<Key, Tokens>builder()
+            .setMaximumWeight(maxWeightInBytes)
+            .weigher((key, tokens) -> 2L * key.text.length() + tokens.ramBytesUsed())
+            .build();
+    }
+
+    /**
+     * Creates the cache configured by the node settings, or returns {@code null} if it is disabled.
+     */
+    public static AnalyzedTextCache create(Settings settings) {
+        long size = SIZE_SETTING.get(settings).getBytes();
+        return size > 0 ? new AnalyzedTextCache(size) : null;
+    }
+
+    /**
+     * Returns an analyzer that produces the same tokens as the given index analyzer of the given index, reusing the
+     * cached tokens of the field values that have already been analyzed for the same index, mapping and settings.
+     *
+     * @param analyzer          the analyzer, which must already apply the {@code maxAnalyzedOffset} limit if any
+     * @param indexSettings     the settings of the index whose mapping defines the analyzer
+     * @param maxAnalyzedOffset the maximum offset analyzed by the analyzer, or {@code null} if it is not limited
+     */
+    public Analyzer wrap(Analyzer analyzer, IndexSettings indexSettings, Integer maxAnalyzedOffset) {
+        return new CachingAnalyzer(
+            analyzer,
+            new Scope(
+                indexSettings.getUUID(),
+                indexSettings.getIndexMetadata().getMappingVersion(),
+                indexSettings.getIndexMetadata().getSettingsVersion(),
+                maxAnalyzedOffset
+            )
+        );
+    }
+
+    long count() {
+        return cache.count();
+    }
+
+    private Tokens tokens(Analyzer analyzer, Scope scope, String field, String text) {
+        try {
+            return cache.computeIfAbsent(new Key(scope, field, text), key -> Tokens.analyze(analyzer, field, text));
+        } catch (ExecutionException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private final class CachingAnalyzer extends Analyzer {
+        private final Analyzer analyzer;
+        private final Scope scope;
+
+        CachingAnalyzer(Analyzer analyzer, Scope scope) {
+            super(PER_FIELD_REUSE_STRATEGY);
+            this.analyzer = analyzer;
+            this.scope = scope;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            ReplayTokenizer tokenizer = new ReplayTokenizer(analyzer, scope, fieldName);
+            // replay the tokens with the attribute implementations of the wrapped analyzer, so that their whole state,
+            // including types, flags, keywords or binary terms, can be restored
+            try (TokenStream stream = analyzer.tokenStream(fieldName, "")) {
+                for (Iterator<AttributeImpl> it = stream.getAttributeImplsIterator(); it.hasNext();) {
+                    tokenizer.addAttributeImpl(it.next().clone());
+                }
+                stream.reset();
+                while (stream.incrementToken()) {
+                    // consume the tokens of the empty value, if any
+                }
+                stream.end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new TokenStreamComponents(tokenizer);
+        }
+
+        @Override
+        public int getPositionIncrementGap(String fieldName) {
+            return analyzer.getPositionIncrementGap(fieldName);
+        }
+
+        @Override
+        public int getOffsetGap(String fieldName) {
+            return analyzer.getOffsetGap(fieldName);
+        }
+    }
+
+    /**
+     * Reads the whole field value on reset and replays its tokens, which are analyzed and cached on the first use.
+     */
+    private final class ReplayTokenizer extends Tokenizer {
+        private final Analyzer analyzer;
+        private final Scope scope;
+        private final String field;
+        private final StringBuilder text = new StringBuilder();
+        private Tokens tokens;
+        private int upto;
+
+        ReplayTokenizer(Analyzer analyzer, Scope scope, String field) {
+            this.analyzer = analyzer;
+            this.scope = scope;
+            this.field = field;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            text.setLength(0);
+            char[] buffer = new char[1024];
+            for (int read = input.read(buffer); read != -1; read = input.read(buffer)) {
+                text.append(buffer, 0, read);
+            }
+            tokens = tokens(analyzer, scope, field, text.toString());
+            upto = 0;
+        }
+
+        @Override
+        public boolean incrementToken() {
+            if (upto >= tokens.states.size()) {
+                return false;
+            }
+            clearAttributes();
+            restoreState(tokens.states.get(upto++));
+            return true;
+        }
+
+        @Override
+        public void end() throws IOException {
+            super.end();
+            restoreState(tokens.endState);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            tokens = null;
+        }
+    }
+
+    /**
+     * The index, mapping and settings versions and analyzed offset limit that the tokens of a field value depend on.
+     */
+    private static final class Scope {
+        private final String indexUUID;
+        private final long mappingVersion;
+        private final long settingsVersion;
+        private final Integer maxAnalyzedOffset;
+
+        Scope(String indexUUID, long mappingVersion, long settingsVersion, Integer maxAnalyzedOffset) {
+            this.indexUUID = indexUUID;
+            this.mappingVersion = mappingVersion;
+            this.settingsVersion = settingsVersion;
+            this.maxAnalyzedOffset = maxAnalyzedOffset;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Scope scope = (Scope) o;
+            return mappingVersion == scope.mappingVersion
+                && settingsVersion == scope.settingsVersion
+                && indexUUID.equals(scope.indexUUID)
+                && Objects.equals(maxAnalyzedOffset, scope.maxAnalyzedOffset);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(indexUUID, mappingVersion, settingsVersion, maxAnalyzedOffset);
+        }
+    }
+
+    private static final class Key {
+        private final Scope scope;
+        private final String field;
+        private final String text;
+
+        Key(Scope scope, String field, String text) {
+            this.scope = scope;
+            this.field = field;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return scope.equals(key.scope) && field.equals(key.field) && text.equals(key.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, field, text);
+        }
+    }
+
+    private static final class Tokens {
+        private final List<State> states;
+        private final State endState;
+        private final long ramBytesUsed;
+
+        private Tokens(List<State> states, State endState, long ramBytesUsed) {
+            this.states = states;
+            this.endState = endState;
+            this.ramBytesUsed = ramBytesUsed;
+        }
+
+        static Tokens analyze(Analyzer analyzer, String field, String text) throws IOException {
+            List<State> states = new ArrayList<>();
+            long ramBytesUsed = 0;
+            try (TokenStream stream = analyzer.tokenStream(field, text)) {
+                // the attributes are looked up, not added, so that the attributes of the reused stream do not change
+                CharTermAttribute termAtt = stream.getAttribute(CharTermAttribute.class);
+                PayloadAttribute payloadAtt = stream.getAttribute(PayloadAttribute.class);
+                stream.reset();
+                while (stream.incrementToken()) {
+                    states.add(stream.captureState());
+                    ramBytesUsed += TOKEN_OVERHEAD_BYTES;
+                    if (termAtt != null) {
+                        ramBytesUsed += 2L * termAtt.length();
+                    }
+                    BytesRef payload = payloadAtt == null ? null : payloadAtt.getPayload();
+                    if (payload != null) {
+                        ramBytesUsed += payload.length;
+                    }
+                }
+                stream.end();
+                return new Tokens(states, stream.captureState(), ramBytesUsed + TOKEN_OVERHEAD_BYTES);
+            }
+        }
+
+        long ramBytesUsed() {
+            return ramBytesUsed;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.lucene.search.uhighlight.UnifiedHighlighter.OffsetSource;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.index.mapper.DerivedFieldType;
@@ -77,6 +78,21 @@ import static org.opensearch.lucene.search.uhighlight.CustomUnifiedHighlighter.M
  * @opensearch.internal
  */
 public class UnifiedHighlighter implements Highlighter {
+    @Nullable
+    private final AnalyzedTextCache analyzedTextCache;
+
+    public UnifiedHighlighter() {
+        this(null);
+    }
+
+    /**
+     * @param analyzedTextCache an optional cache of the tokens of the analyzed field values, used when the offsets have
+     *                          to be retrieved by re-analyzing the field values
+     */
+    public UnifiedHighlighter(@Nullable AnalyzedTextCache analyzedTextCache) {
+        this.analyzedTextCache = analyzedTextCache;
+    }
+
     @Override
     public boolean canHighlight(MappedFieldType fieldType) {
         return true;
@@ -169,9 +185,14 @@ public class UnifiedHighlighter implements Highlighter {
         if (fieldMaxAnalyzedOffset != null) {
             analyzer = getLimitedOffsetAnalyzer(analyzer, fieldMaxAnalyzedOffset);
         }
+        OffsetSource offsetSource = getOffsetSource(fieldContext.fieldType);
+        if (analyzedTextCache != null && offsetSource == OffsetSource.ANALYSIS && derivedFieldType == null) {
+            // the mapping's analyzer is the same across requests, unlike the analyzers of derived fields that may be defined
+            // by the request, and the cached tokens are already limited to the max analyzed offset
+            analyzer = analyzedTextCache.wrap(analyzer, fieldContext.context.getIndexSettings(), fieldMaxAnalyzedOffset);
+        }
         PassageFormatter passageFormatter = getPassageFormatter(fieldContext.hitContext, fieldContext.field, encoder);
         IndexSearcher searcher = fieldContext.context.searcher();
-        OffsetSource offsetSource = getOffsetSource(fieldContext.fieldType);
         BreakIterator breakIterator;
         int higlighterNumberOfFragments;
         if (numberOfFragments == 0
@@ -539,4 +539,11 @@ public abstract class SearchContext implements Releasable {
     public boolean keywordIndexOrDocValuesEnabled() {
         return false;
     }
+
+    /**
+     * Returns whether the fetch phase may process the hits of independent segments concurrently
+     */
+    public boolean concurrentFetchEnabled() {
+        return false;
+    }
 }
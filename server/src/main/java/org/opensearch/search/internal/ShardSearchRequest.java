@@ -106,6 +106,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
 
     private boolean canReturnNullResponseIfMatchNoDocs;
     private SearchSortValuesAndFormats bottomSortValues;
+    private boolean cacheOnCoordinator;
 
     // these are the only mutable fields, as they are subject to rewriting
     private AliasFilter aliasFilter;
@@ -265,6 +266,9 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         bottomSortValues = in.readOptionalWriteable(SearchSortValuesAndFormats::new);
         readerId = in.readOptionalWriteable(ShardSearchContextId::new);
         keepAlive = in.readOptionalTimeValue();
+        if (in.getVersion().onOrAfter(Version.V_3_2_0)) {
+            cacheOnCoordinator = in.readBoolean();
+        }
         originalIndices = OriginalIndices.readOriginalIndices(in);
         assert keepAlive == null || readerId != null : "readerId: " + readerId + " keepAlive: " + keepAlive;
     }
@@ -287,6 +291,7 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.preference = clone.preference;
         this.canReturnNullResponseIfMatchNoDocs = clone.canReturnNullResponseIfMatchNoDocs;
         this.bottomSortValues = clone.bottomSortValues;
+        this.cacheOnCoordinator = clone.cacheOnCoordinator;
         this.originalIndices = clone.originalIndices;
         this.readerId = clone.readerId;
         this.keepAlive = clone.keepAlive;
@@ -335,6 +340,9 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
             out.writeOptionalWriteable(readerId);
             out.writeOptionalTimeValue(keepAlive);
         }
+        if (asKey == false && out.getVersion().onOrAfter(Version.V_3_2_0)) {
+            out.writeBoolean(cacheOnCoordinator);
+        }
     }
 
     @Override
@@ -452,6 +460,18 @@ public class ShardSearchRequest extends TransportRequest implements IndicesReque
         this.canReturnNullResponseIfMatchNoDocs = value;
     }
 
+    /**
+     * Returns true if the coordinating node may cache the response to this request, in which case the can_match phase
+     * reports the shard copy and the version of its reader. Defaults to false.
+     */
+    public boolean cacheOnCoordinator() {
+        return cacheOnCoordinator;
+    }
+
+    public void cacheOnCoordinator(boolean value) {
+        this.cacheOnCoordinator = value;
+    }
+
     private static final ThreadLocal<BytesStreamOutput> scratch = ThreadLocal.withInitial(BytesStreamOutput::new);
 
     /**
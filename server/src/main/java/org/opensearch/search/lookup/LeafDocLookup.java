@@ -56,7 +56,7 @@ import java.util.function.Function;
 @PublicApi(since = "1.0.0")
 public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
 
-    private final Map<String, ScriptDocValues<?>> localCacheFieldData = new HashMap<>(4);
+    private final Map<String, FieldDocValues> localCacheFieldData = new HashMap<>(4);
 
     private final MapperService mapperService;
     private final Function<MappedFieldType, IndexFieldData<?>> fieldDataLookup;
@@ -83,36 +83,41 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
     public ScriptDocValues<?> get(Object key) {
         // assume its a string...
         String fieldName = key.toString();
-        ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
-        if (scriptValues == null) {
+        FieldDocValues fieldDocValues = localCacheFieldData.get(fieldName);
+        if (fieldDocValues == null) {
             final MappedFieldType fieldType = mapperService.fieldType(fieldName);
             if (fieldType == null) {
                 throw new IllegalArgumentException("No field found for [" + fieldName + "] in mapping");
             }
             // load fielddata on behalf of the script: otherwise it would need additional permissions
             // to deal with pagedbytes/ramusagestimator/etc
-            scriptValues = AccessController.doPrivileged(new PrivilegedAction<ScriptDocValues<?>>() {
+            ScriptDocValues<?> scriptValues = AccessController.doPrivileged(new PrivilegedAction<ScriptDocValues<?>>() {
                 @Override
                 public ScriptDocValues<?> run() {
                     return fieldDataLookup.apply(fieldType).load(reader).getScriptValues();
                 }
             });
-            localCacheFieldData.put(fieldName, scriptValues);
+            fieldDocValues = new FieldDocValues(scriptValues);
+            localCacheFieldData.put(fieldName, fieldDocValues);
         }
-        try {
-            scriptValues.setNextDocId(docId);
-        } catch (IOException e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
+        // scripts often access the same field several times per document, e.g. to check that it has a value before
+        // reading it, the values are only read again when the document changes
+        if (fieldDocValues.docId != docId) {
+            try {
+                fieldDocValues.scriptValues.setNextDocId(docId);
+            } catch (IOException e) {
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+            fieldDocValues.docId = docId;
         }
-        return scriptValues;
+        return fieldDocValues.scriptValues;
     }
 
     @Override
     public boolean containsKey(Object key) {
         // assume its a string...
         String fieldName = key.toString();
-        ScriptDocValues<?> scriptValues = localCacheFieldData.get(fieldName);
-        if (scriptValues == null) {
+        if (localCacheFieldData.containsKey(fieldName) == false) {
             MappedFieldType fieldType = mapperService.fieldType(fieldName);
             if (fieldType == null) {
                 return false;
@@ -170,4 +175,16 @@ public class LeafDocLookup implements Map<String, ScriptDocValues<?>> {
     public Set<Map.Entry<String, ScriptDocValues<?>>> entrySet() {
         throw new UnsupportedOperationException();
     }
+
+    /**
+     * The script doc values of a field, along with the document they are positioned on.
+     */
+    private static final class FieldDocValues {
+        private final ScriptDocValues<?> scriptValues;
+        private int docId = -1;
+
+        private FieldDocValues(ScriptDocValues<?> scriptValues) {
+            this.scriptValues = scriptValues;
+        }
+    }
 }
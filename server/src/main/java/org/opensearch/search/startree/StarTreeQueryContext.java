@@ -210,8 +210,8 @@ public class StarTreeQueryContext {
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         AggregatorFactory aggregatorFactory
     ) {
-        if (!(aggregatorFactory instanceof DateHistogramAggregatorFactory dateHistogramAggregatorFactory)
-            || aggregatorFactory.getSubFactories().getFactories().length < 1) {
+        // date histograms without sub-aggregations only need the doc counts that every star-tree entry carries
+        if (!(aggregatorFactory instanceof DateHistogramAggregatorFactory dateHistogramAggregatorFactory)) {
             return false;
         }
 
@@ -120,6 +120,9 @@ public class InboundDecoder implements Releasable {
             }
             if (decompressor != null) {
                 decompress(retainedContent);
+                if (isDone()) {
+                    decompressor.endOfInput();
+                }
                 ReleasableBytesReference decompressed;
                 while ((decompressed = decompressor.pollDecompressedPage()) != null) {
                     fragmentConsumer.accept(decompressed);
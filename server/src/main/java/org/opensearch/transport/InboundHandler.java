@@ -36,6 +36,7 @@ import org.opensearch.Version;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -65,6 +66,7 @@ public class InboundHandler {
         ThreadPool threadPool,
         BigArrays bigArrays,
         OutboundHandler outboundHandler,
+        Compressor compressor,
         NamedWriteableRegistry namedWriteableRegistry,
         TransportHandshaker handshaker,
         TransportKeepAlive keepAlive,
@@ -83,6 +85,7 @@ public class InboundHandler {
                 threadPool,
                 bigArrays,
                 outboundHandler,
+                compressor,
                 namedWriteableRegistry,
                 handshaker,
                 requestHandlers,
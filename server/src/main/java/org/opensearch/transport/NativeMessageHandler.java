@@ -45,6 +45,7 @@ import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanBuilder;
@@ -90,6 +91,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
         ThreadPool threadPool,
         BigArrays bigArrays,
         OutboundHandler outboundHandler,
+        Compressor compressor,
         NamedWriteableRegistry namedWriteableRegistry,
         TransportHandshaker handshaker,
         Transport.RequestHandlers requestHandlers,
@@ -98,7 +100,16 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
         TransportKeepAlive keepAlive
     ) {
         this.threadPool = threadPool;
-        this.outboundHandler = new NativeOutboundHandler(nodeName, version, features, statsTracker, threadPool, bigArrays, outboundHandler);
+        this.outboundHandler = new NativeOutboundHandler(
+            nodeName,
+            version,
+            features,
+            statsTracker,
+            threadPool,
+            bigArrays,
+            outboundHandler,
+            compressor
+        );
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.handshaker = handshaker;
         this.requestHandlers = requestHandlers;
@@ -65,6 +65,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.BoundTransportAddress;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.monitor.jvm.JvmInfo;
@@ -137,6 +138,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
     protected final NetworkService networkService;
     protected final Set<ProfileSettings> profileSettings;
     private final CircuitBreakerService circuitBreakerService;
+    private final List<String> compressIncludeActions;
+    private final List<String> compressExcludeActions;
 
     private final ConcurrentMap<String, BoundTransportAddress> profileBoundAddresses = newConcurrentMap();
     private final Map<String, List<TcpServerChannel>> serverChannels = newConcurrentMap();
@@ -174,6 +177,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         this.pageCacheRecycler = pageCacheRecycler;
         this.circuitBreakerService = circuitBreakerService;
         this.networkService = networkService;
+        this.compressIncludeActions = TransportSettings.TRANSPORT_COMPRESS_INCLUDE_ACTIONS.get(settings);
+        this.compressExcludeActions = TransportSettings.TRANSPORT_COMPRESS_EXCLUDE_ACTIONS.get(settings);
         String nodeName = Node.NODE_NAME_SETTING.get(settings);
         final Settings defaultFeatures = TransportSettings.DEFAULT_FEATURES_SETTING.get(settings);
         String[] features;
@@ -189,6 +194,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             features = new TreeSet<>(defaultFeatures.names()).toArray(new String[defaultFeatures.names().size()]);
         }
         BigArrays bigArrays = new BigArrays(pageCacheRecycler, circuitBreakerService, CircuitBreaker.IN_FLIGHT_REQUESTS);
+        Compressor compressor = TransportSettings.compressor(settings);
 
         this.outboundHandler = new OutboundHandler(statsTracker, threadPool);
         this.handshakerHandler = new NativeOutboundHandler(
@@ -198,7 +204,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             statsTracker,
             threadPool,
             bigArrays,
-            outboundHandler
+            outboundHandler,
+            compressor
         );
         this.handshaker = new TransportHandshaker(
             version,
@@ -224,6 +231,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             threadPool,
             bigArrays,
             outboundHandler,
+            compressor,
             namedWriteableRegistry,
             handshaker,
             keepAlive,
@@ -335,8 +343,29 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                 throw new NodeNotConnectedException(node, "connection already closed");
             }
             TcpChannel channel = channel(options.type());
-            handshakerHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, false);
+            boolean compressRequest = shouldCompress(compress, action);
+            handshakerHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compressRequest, false);
+        }
+    }
+
+    /**
+     * Whether a request of the given action must be compressed, given whether the requests of its connection are compressed.
+     * Responses are compressed like their request.
+     */
+    boolean shouldCompress(boolean compressConnection, String action) {
+        if (compressConnection) {
+            return compressExcludeActions.isEmpty() || startsWithAny(action, compressExcludeActions) == false;
+        }
+        return compressIncludeActions.isEmpty() == false && startsWithAny(action, compressIncludeActions);
+    }
+
+    private static boolean startsWithAny(String action, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (action.startsWith(prefix)) {
+                return true;
+            }
         }
+        return false;
     }
 
     // This allows transport implementations to potentially override specific connection profiles. This
@@ -37,19 +37,24 @@ import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
 /**
- * Decompresses data over the transport wire
+ * Decompresses data over the transport wire. Messages compressed with the default compressor are inflated as their bytes are
+ * received, while messages compressed with zstd are buffered in recycled pages and decompressed once all their bytes are received,
+ * see {@link #endOfInput()}.
  *
  * @opensearch.internal
  */
@@ -60,6 +65,10 @@ public class TransportDecompressor implements Closeable {
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
     private boolean hasReadHeader = false;
+    // the compressed bytes of a zstd message, or null if the message is compressed with the default compressor
+    private ArrayDeque<Recycler.V<byte[]>> zstdPages;
+    private int zstdPageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+    private boolean zstdDecompressed = false;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
@@ -69,7 +78,16 @@ public class TransportDecompressor implements Closeable {
 
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
+        if (zstdPages != null) {
+            return bufferZstd(bytesReference);
+        }
         if (hasReadHeader == false) {
+            final Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+            if (zstd.isCompressed(bytesReference)) {
+                hasReadHeader = true;
+                zstdPages = new ArrayDeque<>(4);
+                return bufferZstd(bytesReference);
+            }
             final Compressor compressor = CompressorRegistry.defaultCompressor();
             if (compressor.isCompressed(bytesReference) == false) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
@@ -136,12 +154,82 @@ public class TransportDecompressor implements Closeable {
         return bytesConsumed;
     }
 
+    private int bufferZstd(BytesReference bytesReference) throws IOException {
+        BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while ((ref = refIterator.next()) != null) {
+            int offset = ref.offset;
+            int remaining = ref.length;
+            while (remaining > 0) {
+                if (zstdPageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                    zstdPages.add(recycler.bytePage(false));
+                    zstdPageOffset = 0;
+                }
+                int toCopy = Math.min(remaining, PageCacheRecycler.BYTE_PAGE_SIZE - zstdPageOffset);
+                System.arraycopy(ref.bytes, offset, zstdPages.getLast().v(), zstdPageOffset, toCopy);
+                zstdPageOffset += toCopy;
+                offset += toCopy;
+                remaining -= toCopy;
+            }
+        }
+        return bytesReference.length();
+    }
+
+    /**
+     * Signals that all the compressed bytes of the message have been passed to {@link #decompress(BytesReference)}.
+     */
+    public void endOfInput() throws IOException {
+        if (zstdPages == null || zstdDecompressed) {
+            return;
+        }
+        final BytesReference[] compressed = new BytesReference[zstdPages.size()];
+        int i = 0;
+        for (Recycler.V<byte[]> page : zstdPages) {
+            int length = i == compressed.length - 1 ? zstdPageOffset : PageCacheRecycler.BYTE_PAGE_SIZE;
+            compressed[i++] = new BytesArray(page.v(), 0, length);
+        }
+        final Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        try (InputStream in = zstd.threadLocalInputStream(CompositeBytesReference.of(compressed).streamInput())) {
+            while (true) {
+                final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
+                if (isNewPage) {
+                    pages.add(recycler.bytePage(false));
+                    pageOffset = 0;
+                }
+                int read = in.read(pages.getLast().v(), pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+                if (read == -1) {
+                    if (isNewPage) {
+                        pages.pollLast().close();
+                        pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+                    }
+                    break;
+                }
+                pageOffset += read;
+            }
+        }
+        releaseZstdPages();
+        zstdDecompressed = true;
+    }
+
+    private void releaseZstdPages() {
+        if (zstdPages != null) {
+            for (Recycler.V<byte[]> page : zstdPages) {
+                page.close();
+            }
+            zstdPages = null;
+        }
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorRegistry.defaultCompressor().headerLength();
+        return hasReadHeader
+            || bytesAvailable >= Math.max(
+                CompressorRegistry.defaultCompressor().headerLength(),
+                CompressorRegistry.getCompressor(ZstdCompressor.NAME).headerLength()
+            );
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        return zstdDecompressed || inflater.finished();
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -168,5 +256,6 @@ public class TransportDecompressor implements Closeable {
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
+        releaseZstdPages();
     }
 }
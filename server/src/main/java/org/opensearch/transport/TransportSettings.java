@@ -36,10 +36,14 @@ import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyList;
@@ -117,6 +121,42 @@ public final class TransportSettings {
         OLD_TRANSPORT_COMPRESS,
         Setting.Property.NodeScope
     );
+    /**
+     * The compressor of the compressed transport messages sent to nodes that support it, either {@code deflate} or {@code zstd}.
+     * Older nodes are always sent messages compressed with {@code deflate}.
+     */
+    public static final Setting<String> TRANSPORT_COMPRESSION_SCHEME = new Setting<>(
+        "transport.compression_scheme",
+        "deflate",
+        s -> {
+            String scheme = s.toLowerCase(Locale.ROOT);
+            if (scheme.equals("deflate") == false && scheme.equals("zstd") == false) {
+                throw new IllegalArgumentException("unknown transport compression scheme [" + s + "], must be one of [deflate, zstd]");
+            }
+            return scheme;
+        },
+        Setting.Property.NodeScope
+    );
+    /**
+     * The prefixes of the actions whose requests are compressed even if {@link #TRANSPORT_COMPRESS} is disabled, such as
+     * recovery file chunks that are worth compressing across zones.
+     */
+    public static final Setting<List<String>> TRANSPORT_COMPRESS_INCLUDE_ACTIONS = listSetting(
+        "transport.compress.include_actions",
+        emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
+    /**
+     * The prefixes of the actions whose requests are not compressed even if {@link #TRANSPORT_COMPRESS} is enabled, such as
+     * latency sensitive searches with small responses.
+     */
+    public static final Setting<List<String>> TRANSPORT_COMPRESS_EXCLUDE_ACTIONS = listSetting(
+        "transport.compress.exclude_actions",
+        emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE = timeSetting(
         "transport.ping_schedule",
@@ -332,4 +372,13 @@ public final class TransportSettings {
             ? affixSetting.getConcreteSettingForNamespace(key)
             : affixSetting.getConcreteSetting(key.replaceAll(regex, replacement));
     }
+
+    /**
+     * Returns the compressor configured by {@link #TRANSPORT_COMPRESSION_SCHEME}.
+     */
+    public static Compressor compressor(Settings settings) {
+        return TRANSPORT_COMPRESSION_SCHEME.get(settings).equals("zstd")
+            ? CompressorRegistry.getCompressor(ZstdCompressor.NAME)
+            : CompressorRegistry.defaultCompressor();
+    }
 }
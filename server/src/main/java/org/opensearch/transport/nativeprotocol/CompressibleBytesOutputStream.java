@@ -32,11 +32,13 @@
 
 package org.opensearch.transport.nativeprotocol;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.IOException;
@@ -65,10 +67,17 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     private final boolean shouldCompress;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress ? CompressorRegistry.defaultCompressor() : null);
+    }
+
+    /**
+     * Creates a stream that compresses the bytes with the given compressor, or that does not compress them if it is {@code null}.
+     */
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, @Nullable Compressor compressor) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
-        this.shouldCompress = shouldCompress;
+        this.shouldCompress = compressor != null;
         if (shouldCompress) {
-            this.stream = CompressorRegistry.defaultCompressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.stream = compressor.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
         } else {
             this.stream = bytesStreamOutput;
         }
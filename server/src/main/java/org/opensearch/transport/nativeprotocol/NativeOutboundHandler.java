@@ -42,6 +42,8 @@ import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.OutboundHandler;
@@ -69,6 +71,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
     private final StatsTracker statsTracker;
     private final ThreadPool threadPool;
     private final BigArrays bigArrays;
+    private final Compressor compressor;
     private volatile TransportMessageListener messageListener = TransportMessageListener.NOOP_LISTENER;
     private final OutboundHandler handler;
 
@@ -79,7 +82,8 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
         StatsTracker statsTracker,
         ThreadPool threadPool,
         BigArrays bigArrays,
-        OutboundHandler handler
+        OutboundHandler handler,
+        Compressor compressor
     ) {
         this.nodeName = nodeName;
         this.version = version;
@@ -88,6 +92,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
         this.threadPool = threadPool;
         this.bigArrays = bigArrays;
         this.handler = handler;
+        this.compressor = compressor;
     }
 
     /**
@@ -115,7 +120,8 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressRequest,
+            compressor(version)
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(channel, message, listener);
@@ -146,7 +152,8 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compress,
+            compressor(version)
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
         sendMessage(channel, message, listener);
@@ -180,6 +187,14 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
         sendMessage(channel, message, listener);
     }
 
+    /**
+     * Returns the compressor of the compressed messages sent with the given version. Nodes before 3.2.0 can only decompress
+     * messages compressed with the default compressor.
+     */
+    private Compressor compressor(Version version) {
+        return version.onOrAfter(Version.V_3_2_0) ? compressor : CompressorRegistry.defaultCompressor();
+    }
+
     private void sendMessage(TcpChannel channel, NativeOutboundMessage networkMessage, ActionListener<Void> listener) throws IOException {
         MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
         OutboundHandler.SendContext sendContext = new OutboundHandler.SendContext(statsTracker, channel, serializer, listener, serializer);
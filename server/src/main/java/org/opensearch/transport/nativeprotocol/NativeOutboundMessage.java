@@ -39,6 +39,8 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.TcpHeader;
@@ -55,10 +57,19 @@ import java.util.Set;
 abstract class NativeOutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final Compressor compressor;
 
-    NativeOutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    NativeOutboundMessage(
+        ThreadContext threadContext,
+        Version version,
+        byte status,
+        long requestId,
+        Writeable message,
+        Compressor compressor
+    ) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressor = compressor;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -72,7 +83,10 @@ abstract class NativeOutboundMessage extends NetworkMessage {
         writeVariableHeader(bytesStream);
         variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(
+                bytesStream,
+                TransportStatus.isCompress(status) ? compressor : null
+            )) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -138,7 +152,31 @@ abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(
+                threadContext,
+                features,
+                message,
+                version,
+                action,
+                requestId,
+                isHandshake,
+                compress,
+                CompressorRegistry.defaultCompressor()
+            );
+        }
+
+        Request(
+            ThreadContext threadContext,
+            String[] features,
+            Writeable message,
+            Version version,
+            String action,
+            long requestId,
+            boolean isHandshake,
+            boolean compress,
+            Compressor compressor
+        ) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressor);
             this.features = features;
             this.action = action;
         }
@@ -182,7 +220,20 @@ abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress, CompressorRegistry.defaultCompressor());
+        }
+
+        Response(
+            ThreadContext threadContext,
+            Set<String> features,
+            Writeable message,
+            Version version,
+            long requestId,
+            boolean isHandshake,
+            boolean compress,
+            Compressor compressor
+        ) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressor);
             this.features = features;
         }
 
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class CoordinatorRequestCacheTests extends OpenSearchTestCase {
+
+    private final CoordinatorRequestCache cache = new CoordinatorRequestCache(
+        1024 * 1024,
+        new NamedWriteableRegistry(Collections.emptyList())
+    );
+
+    private final GroupShardsIterator<SearchShardIterator> shardsIts = new GroupShardsIterator<>(
+        Arrays.asList(
+            new SearchShardIterator(null, new ShardId("index", "_na_", 0), Collections.emptyList(), OriginalIndices.NONE),
+            new SearchShardIterator(null, new ShardId("index", "_na_", 1), Collections.emptyList(), OriginalIndices.NONE)
+        )
+    );
+
+    public void testDisabledByDefault() {
+        assertNull(CoordinatorRequestCache.create(Settings.EMPTY, new NamedWriteableRegistry(Collections.emptyList())));
+        assertNotNull(
+            CoordinatorRequestCache.create(
+                Settings.builder().put(CoordinatorRequestCache.SIZE_SETTING.getKey(), "1mb").build(),
+                new NamedWriteableRegistry(Collections.emptyList())
+            )
+        );
+    }
+
+    public void testCanCache() {
+        assertFalse(CoordinatorRequestCache.canCache(new SearchRequest()));
+        assertFalse(CoordinatorRequestCache.canCache(new SearchRequest().requestCache(false)));
+        assertTrue(CoordinatorRequestCache.canCache(new SearchRequest().requestCache(true)));
+        assertFalse(CoordinatorRequestCache.canCache(new SearchRequest().requestCache(true).searchType(SearchType.DFS_QUERY_THEN_FETCH)));
+        assertFalse(CoordinatorRequestCache.canCache(new SearchRequest().requestCache(true).scroll("1m")));
+        SearchRequest profiled = new SearchRequest().requestCache(true).source(new SearchSourceBuilder().profile(true));
+        assertFalse(CoordinatorRequestCache.canCache(profiled));
+    }
+
+    public void testCachedUnderReaderVersions() {
+        SearchRequest request = new SearchRequest().requestCache(true).source(new SearchSourceBuilder().size(0));
+        String[] copyIds = new String[] { "alloc_0/history_0", "alloc_1/history_1" };
+
+        CoordinatorRequestCache.Lookup lookup = cache.lookup(request, Collections.emptyMap());
+        assertNull(lookup.get(shardsIts, copyIds, new long[] { 3, 7 }));
+        lookup.wrap(ActionListener.wrap(response -> {}, e -> fail())).onResponse(response(42, 2, 2));
+        assertEquals(1, cache.count());
+
+        InternalSearchResponse cached = cache.lookup(request, Collections.emptyMap()).get(shardsIts, copyIds, new long[] { 3, 7 });
+        assertNotNull(cached);
+        assertEquals(42, cached.hits().getTotalHits().value());
+
+        // a refresh on one of the shards, a different shard copy, a copy with a new history or a different request miss the cache
+        assertNull(cache.lookup(request, Collections.emptyMap()).get(shardsIts, copyIds, new long[] { 3, 8 }));
+        String[] otherCopy = new String[] { "alloc_0/history_0", "alloc_2/history_1" };
+        assertNull(cache.lookup(request, Collections.emptyMap()).get(shardsIts, otherCopy, new long[] { 3, 7 }));
+        String[] otherHistory = new String[] { "alloc_0/history_0", "alloc_1/history_2" };
+        assertNull(cache.lookup(request, Collections.emptyMap()).get(shardsIts, otherHistory, new long[] { 3, 7 }));
+        SearchRequest other = new SearchRequest().requestCache(true).source(new SearchSourceBuilder().size(1));
+        assertNull(cache.lookup(other, Collections.emptyMap()).get(shardsIts, copyIds, new long[] { 3, 7 }));
+    }
+
+    public void testNotCachedWithoutReaderVersions() {
+        SearchRequest request = new SearchRequest().requestCache(true);
+        CoordinatorRequestCache.Lookup lookup = cache.lookup(request, Collections.emptyMap());
+        assertNull(lookup.get(shardsIts, new String[] { "alloc_0/history_0", "alloc_1/history_1" }, new long[] { 3, -1 }));
+        lookup.wrap(ActionListener.wrap(response -> {}, e -> fail())).onResponse(response(42, 2, 2));
+        assertEquals(0, cache.count());
+    }
+
+    public void testNotCachedWithShardFailures() {
+        SearchRequest request = new SearchRequest().requestCache(true);
+        CoordinatorRequestCache.Lookup lookup = cache.lookup(request, Collections.emptyMap());
+        assertNull(lookup.get(shardsIts, new String[] { "alloc_0/history_0", "alloc_1/history_1" }, new long[] { 3, 7 }));
+        lookup.wrap(ActionListener.wrap(response -> {}, e -> fail())).onResponse(response(42, 2, 1));
+        assertEquals(0, cache.count());
+    }
+
+    private static SearchResponse response(long totalHits, int totalShards, int successfulShards) {
+        SearchHits hits = new SearchHits(new SearchHit[0], new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), Float.NaN);
+        InternalSearchResponse internalResponse = new InternalSearchResponse(hits, null, null, null, false, null, 1);
+        return new SearchResponse(
+            internalResponse,
+            null,
+            totalShards,
+            successfulShards,
+            0,
+            10,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+}
@@ -403,6 +403,29 @@ public class GeometryIndexerTests extends OpenSearchTestCase {
         assertEquals(indexed, indexer.prepareForIndexing(polygon));
     }
 
+    public void testTessellationCache() {
+        GeoShapeIndexer cachingIndexer = new GeoShapeIndexer(true, "test", 1 << 20);
+        Polygon polygon = new Polygon(new LinearRing(new double[] { 160, 200, 200, 160, 160 }, new double[] { 10, 10, 20, 20, 10 }));
+        Geometry prepared = cachingIndexer.prepareForIndexing(polygon);
+
+        List<IndexableField> fields = cachingIndexer.indexShape(null, prepared);
+        List<IndexableField> expected = indexer.indexShape(null, indexer.prepareForIndexing(polygon));
+        assertEquals(expected.size(), fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            assertEquals(expected.get(i).binaryValue(), fields.get(i).binaryValue());
+        }
+
+        // an identical polygon reuses the triangles of the first one
+        Geometry same = cachingIndexer.prepareForIndexing(
+            new Polygon(new LinearRing(new double[] { 160, 200, 200, 160, 160 }, new double[] { 10, 10, 20, 20, 10 }))
+        );
+        List<IndexableField> cached = cachingIndexer.indexShape(null, same);
+        assertEquals(fields.size(), cached.size());
+        for (int i = 0; i < fields.size(); i++) {
+            assertSame(fields.get(i), cached.get(i));
+        }
+    }
+
     public void testPolygonOrientation() throws IOException, ParseException {
         assertEquals(
             expected("POLYGON ((160 10, -160 10, -160 0, 160 0, 160 10))"), // current algorithm shifts edges to left
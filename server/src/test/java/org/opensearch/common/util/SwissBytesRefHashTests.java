@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.opensearch.common.hash.T1ha1;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class SwissBytesRefHashTests extends OpenSearchTestCase {
+
+    private BigArrays randomBigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
+    private SwissBytesRefHash newHash() {
+        long seed = randomLong();
+        return new SwissBytesRefHash(
+            randomIntBetween(1, 100),      // random capacity
+            0.6f + randomFloat() * 0.39f,  // random load factor to verify collision resolution
+            key -> T1ha1.hash(key.bytes, key.offset, key.length, seed),
+            randomBigArrays()
+        );
+    }
+
+    public void testFuzzy() {
+        Map<BytesRef, Long> reference = new HashMap<>();
+        BytesRef[] keys = Stream.generate(() -> new BytesRef(randomAlphaOfLength(20)))
+            .limit(randomIntBetween(1000, 2000))
+            .toArray(BytesRef[]::new);
+
+        try (SwissBytesRefHash hash = newHash()) {
+            // Verify the behaviour of "add" and "find".
+            for (int i = 0; i < keys.length * 10; i++) {
+                BytesRef key = keys[i % keys.length];
+                if (reference.containsKey(key)) {
+                    long expectedOrdinal = reference.get(key);
+                    assertEquals(-1 - expectedOrdinal, hash.add(key));
+                    assertEquals(expectedOrdinal, hash.find(key));
+                } else {
+                    assertEquals(-1, hash.find(key));
+                    reference.put(key, (long) reference.size());
+                    assertEquals((long) reference.get(key), hash.add(key));
+                }
+            }
+
+            // Verify the behaviour of "get".
+            BytesRef scratch = new BytesRef();
+            for (Map.Entry<BytesRef, Long> entry : reference.entrySet()) {
+                assertEquals(entry.getKey(), hash.get(entry.getValue(), scratch));
+            }
+
+            // Verify the behaviour of "size".
+            assertEquals(reference.size(), hash.size());
+        }
+    }
+
+    public void testRealisticUnicodeKeys() {
+        BytesRefBuilder ref = new BytesRefBuilder();
+        BytesRef scratch = new BytesRef();
+        Map<String, Long> reference = new HashMap<>();
+        try (SwissBytesRefHash hash = newHash()) {
+            for (int i = 0; i < 797; i++) {
+                String str = TestUtil.randomRealisticUnicodeString(random(), 0, 1000);
+                ref.copyChars(str);
+                long count = hash.size();
+                long key = hash.add(ref.get());
+                if (key >= 0) {
+                    assertNull(reference.put(str, key));
+                    assertEquals(count, key);
+                    assertEquals(count + 1, hash.size());
+                } else {
+                    assertEquals(reference.get(str).longValue(), -1 - key);
+                    assertEquals(count, hash.size());
+                }
+            }
+            for (Map.Entry<String, Long> entry : reference.entrySet()) {
+                ref.copyChars(entry.getKey());
+                assertEquals(ref.get(), hash.get(entry.getValue(), scratch));
+                assertEquals((long) entry.getValue(), hash.find(ref.get()));
+            }
+        }
+    }
+
+    public void testCollidingHashes() {
+        // all keys share the same home group, tag and full hash, so equality falls back to the key bytes
+        try (SwissBytesRefHash hash = new SwissBytesRefHash(1, 0.8f, key -> 42L, randomBigArrays())) {
+            for (int i = 0; i < 100; i++) {
+                BytesRef key = new BytesRef(Integer.toString(i));
+                assertEquals(-1, hash.find(key));
+                assertEquals(i, hash.add(key));
+            }
+            for (int i = 0; i < 100; i++) {
+                BytesRef key = new BytesRef(Integer.toString(i));
+                assertEquals(i, hash.find(key));
+                assertEquals(-1 - i, hash.add(key));
+            }
+            assertEquals(100, hash.size());
+        }
+    }
+}
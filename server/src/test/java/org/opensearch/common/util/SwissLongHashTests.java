@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class SwissLongHashTests extends OpenSearchTestCase {
+
+    public void testFuzzy() {
+        Map<Long, Long> reference = new HashMap<>();
+
+        try (
+            SwissLongHash h = new SwissLongHash(
+                randomIntBetween(1, 100),      // random capacity
+                0.6f + randomFloat() * 0.39f,  // random load factor to verify collision resolution
+                BigArrays.NON_RECYCLING_INSTANCE
+            )
+        ) {
+            // Verify the behaviour of "add" and "find".
+            for (int i = 0; i < (1 << 20); i++) {
+                long key = randomLong() % (1 << 12);  // roughly ~4% unique keys
+                if (reference.containsKey(key)) {
+                    long expectedOrdinal = reference.get(key);
+                    assertEquals(-1 - expectedOrdinal, h.add(key));
+                    assertEquals(expectedOrdinal, h.find(key));
+                } else {
+                    assertEquals(-1, h.find(key));
+                    reference.put(key, (long) reference.size());
+                    assertEquals((long) reference.get(key), h.add(key));
+                }
+            }
+
+            // Verify the behaviour of "get".
+            for (Map.Entry<Long, Long> entry : reference.entrySet()) {
+                assertEquals((long) entry.getKey(), h.get(entry.getValue()));
+            }
+
+            // Verify the behaviour of "size".
+            assertEquals(reference.size(), h.size());
+        }
+    }
+
+    public void testCollidingHashes() {
+        try (SwissLongHash h = new SwissLongHash(1, 0.8f, BigArrays.NON_RECYCLING_INSTANCE) {
+            /**
+             * Overriding with a hash function that maps all keys to the same home group and the same tag,
+             * so that every lookup has to probe across full groups and verify every tag match.
+             */
+            @Override
+            long hash(long key) {
+                return 0;
+            }
+        }) {
+            for (long key = 0; key < 100; key++) {
+                assertEquals(-1, h.find(key));
+                assertEquals(key, h.add(key));
+            }
+            for (long key = 0; key < 100; key++) {
+                assertEquals(key, h.find(key));
+                assertEquals(-1 - key, h.add(key));
+            }
+            assertEquals(100, h.size());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SwissTableTests extends OpenSearchTestCase {
+
+    public void testTag() {
+        assertEquals(0, SwissTable.tag(0));
+        assertEquals(127, SwissTable.tag(-1));
+        long hash = randomLong();
+        long tag = SwissTable.tag(hash);
+        assertTrue(tag >= 0 && tag < SwissTable.EMPTY);
+        // the tag doesn't depend on the bits that pick the home group
+        assertEquals(tag, SwissTable.tag(hash & ~0xFFFFFFFFL));
+    }
+
+    public void testTagMatching() {
+        long group = SwissTable.EMPTY_GROUP;
+        assertEquals(0, SwissTable.matchTag(group, 0));
+        assertEquals(8, Long.bitCount(SwissTable.matchEmpty(group)));
+
+        long tag = randomLongBetween(0, 127);
+        int slot = randomIntBetween(0, SwissTable.GROUP_SIZE - 1);
+        group = SwissTable.setTag(group, slot, tag);
+        long matches = SwissTable.matchTag(group, tag);
+        assertNotEquals(0, matches);
+        assertEquals(slot, SwissTable.slot(matches));
+        assertEquals(7, Long.bitCount(SwissTable.matchEmpty(group)));
+        assertEquals(0, SwissTable.matchEmpty(group) & (0x80L << (slot << 3)));
+
+        // fill the group and check that every slot is found again
+        long full = 0;
+        for (int i = 0; i < SwissTable.GROUP_SIZE; i++) {
+            full = SwissTable.setTag(SwissTable.setTag(full, i, SwissTable.EMPTY), i, i * 10 + 3);
+        }
+        assertEquals(0, SwissTable.matchEmpty(full));
+        for (int i = 0; i < SwissTable.GROUP_SIZE; i++) {
+            long m = SwissTable.matchTag(full, i * 10 + 3);
+            assertEquals(i, SwissTable.slot(m));
+        }
+        assertEquals(0, SwissTable.matchTag(full, 127));
+    }
+
+    public void testProbingVisitsEveryGroup() {
+        long groups = 1L << randomIntBetween(0, 12);
+        long mask = groups - 1;
+        long group = randomLong() & mask;
+        boolean[] visited = new boolean[(int) groups];
+        for (long probe = 0; probe < groups; probe++) {
+            assertFalse("group [" + group + "] was probed twice", visited[(int) group]);
+            visited[(int) group] = true;
+            group = SwissTable.nextGroup(group, probe + 1, mask);
+        }
+        for (int i = 0; i < visited.length; i++) {
+            assertTrue("group [" + i + "] was never probed", visited[i]);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.opensearch.common.compress.DeflateCompressor;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.opensearch.core.xcontent.XContentHelper.toXContent;
+
+public class XContentStreamFilterTests extends AbstractFilteringTestCase {
+
+    @Override
+    protected void testFilter(Builder expected, Builder actual, Set<String> includes, Set<String> excludes) throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final boolean humanReadable = randomBoolean();
+
+        String[] sourceIncludes = includes == null ? Strings.EMPTY_ARRAY : includes.toArray(new String[0]);
+        String[] sourceExcludes = excludes == null ? Strings.EMPTY_ARRAY : excludes.toArray(new String[0]);
+
+        BytesReference source = toBytes(actual, xContentType, humanReadable);
+        BytesReference filtered = XContentStreamFilter.of(sourceIncludes, sourceExcludes).filter(source);
+        assertEquals(xContentType, MediaTypeRegistry.xContentType(filtered));
+        assertEquals(
+            "Filtered source must be equal to the expected source",
+            XContentHelper.convertToMap(toBytes(expected, xContentType, humanReadable), false, xContentType).v2(),
+            XContentHelper.convertToMap(filtered, false, xContentType).v2()
+        );
+    }
+
+    public void testSameAsMapFilter() throws IOException {
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            XContentType xContentType = randomFrom(XContentType.values());
+            paths.clear();
+            XContentBuilder builder = XContentFactory.contentBuilder(xContentType);
+            builder.startObject();
+            randomObject(builder, "", 0, paths);
+            builder.endObject();
+            BytesReference source = BytesReference.bytes(builder);
+            if (randomBoolean()) {
+                source = new DeflateCompressor().compress(source);
+            }
+
+            String[] includes = randomPatterns(paths);
+            String[] excludes = randomPatterns(paths);
+            Map<String, Object> sourceAsMap = XContentHelper.convertToMap(source, false, xContentType).v2();
+            Map<String, Object> expected = XContentMapValues.filter(sourceAsMap, includes, excludes);
+
+            BytesReference filtered = XContentStreamFilter.of(includes, excludes).filter(source);
+            assertEquals(
+                "includes " + String.join(",", includes) + " excludes " + String.join(",", excludes),
+                expected,
+                XContentHelper.convertToMap(filtered, false, xContentType).v2()
+            );
+        }
+    }
+
+    public void testKeepsPropertyOrder() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("c", 1)
+            .field("b", 2)
+            .startObject("a")
+            .field("z", 3)
+            .field("y", 4)
+            .endObject()
+            .endObject();
+        BytesReference filtered = XContentStreamFilter.of(new String[] { "c", "a.*" }, new String[] { "a.z" })
+            .filter(BytesReference.bytes(builder));
+        assertEquals("{\"c\":1,\"a\":{\"y\":4}}", filtered.utf8ToString());
+    }
+
+    private static void randomObject(XContentBuilder builder, String prefix, int depth, List<String> paths) throws IOException {
+        // distinct names, since duplicate keys are rejected by the parsers
+        for (String name : randomSubsetOf(List.of("a", "b", "c", "ab", "a.b"))) {
+            String path = prefix + name;
+            paths.add(path);
+            builder.field(name);
+            randomValue(builder, path, depth, paths);
+        }
+    }
+
+    private static void randomValue(XContentBuilder builder, String path, int depth, List<String> paths) throws IOException {
+        switch (depth < 3 ? randomIntBetween(0, 4) : randomIntBetween(0, 1)) {
+            case 0:
+                builder.value(randomAlphaOfLength(3));
+                break;
+            case 1:
+                if (randomBoolean()) {
+                    builder.nullValue();
+                } else {
+                    builder.value(randomInt());
+                }
+                break;
+            case 2:
+            case 3:
+                builder.startObject();
+                randomObject(builder, path + ".", depth + 1, paths);
+                builder.endObject();
+                break;
+            default:
+                builder.startArray();
+                int numValues = randomIntBetween(0, 3);
+                for (int i = 0; i < numValues; i++) {
+                    randomValue(builder, path, depth + 1, paths);
+                }
+                builder.endArray();
+                break;
+        }
+    }
+
+    private static String[] randomPatterns(List<String> paths) {
+        int numPatterns = randomIntBetween(0, 3);
+        String[] patterns = new String[numPatterns];
+        for (int i = 0; i < numPatterns; i++) {
+            String pattern = paths.isEmpty() || rarely() ? randomFrom("a", "b", "c") : randomFrom(paths);
+            if (randomBoolean()) {
+                int wildcard = randomIntBetween(0, pattern.length() - 1);
+                pattern = pattern.substring(0, wildcard) + "*";
+            }
+            patterns[i] = pattern;
+        }
+        return patterns;
+    }
+
+    private static BytesReference toBytes(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+        ToXContentObject toXContent = (builder, params) -> test.apply(builder);
+        return toXContent(toXContent, xContentType, humanReadable);
+    }
+}
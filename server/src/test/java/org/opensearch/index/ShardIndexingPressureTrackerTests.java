@@ -46,6 +46,33 @@ public class ShardIndexingPressureTrackerTests extends OpenSearchTestCase {
         assertEquals(0L, commonOperationTracker.getTotalCombinedCoordinatingAndPrimaryBytes());
     }
 
+    public void testThroughputMovingQueueSize() throws Exception {
+        PerformanceTracker performanceTracker = new ShardIndexingPressureTracker(new ShardId("index", "uuid", 0), 100L, 150L)
+            .getPrimaryOperationTracker()
+            .getPerformanceTracker();
+        int threads = randomIntBetween(2, 8);
+        int throughputsPerThread = randomIntBetween(10, 100);
+        Thread[] writers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < throughputsPerThread; j++) {
+                    performanceTracker.addNewThroughout((double) j);
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        assertEquals((long) threads * throughputsPerThread, performanceTracker.getThroughputMovingQueueSize());
+
+        for (int i = 0; i < threads * throughputsPerThread; i++) {
+            assertNotNull(performanceTracker.getFirstThroughput());
+        }
+        assertNull(performanceTracker.getFirstThroughput());
+        assertEquals(0L, performanceTracker.getThroughputMovingQueueSize());
+    }
+
     private void assertStatsTracker(StatsTracker statsTracker) {
         assertEquals(0L, statsTracker.getCurrentBytes());
         assertEquals(0L, statsTracker.getTotalBytes());
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MergeCoordinatorTests extends OpenSearchTestCase {
+
+    private static final long BUDGET = ByteSizeUnit.MB.toBytes(10);
+    private static final ShardId SHARD_ID = new ShardId("index", "_na_", 0);
+
+    public void testDisabledCoordinatorDoesNotTrackMerges() {
+        MergeCoordinator coordinator = newCoordinator(false);
+        Releasable first = coordinator.acquire(pendingMerge(BUDGET, false, 1), () -> false);
+        Releasable second = coordinator.acquire(pendingMerge(BUDGET, false, 1), () -> false);
+        assertEquals(0, coordinator.getMergingBytes());
+        first.close();
+        second.close();
+        assertEquals(0, coordinator.getTotalQueuedMerges());
+    }
+
+    public void testMergesWaitForBudget() throws Exception {
+        MergeCoordinator coordinator = newCoordinator(true);
+        // a single merge always runs, even if it is larger than the budget
+        Releasable running = coordinator.acquire(pendingMerge(2 * BUDGET, false, 1), () -> false);
+        assertEquals(2 * BUDGET, coordinator.getMergingBytes());
+
+        List<Releasable> admitted = Collections.synchronizedList(new ArrayList<>());
+        Thread waiting = new Thread(() -> admitted.add(coordinator.acquire(pendingMerge(BUDGET / 2, false, 1), () -> false)));
+        waiting.start();
+        assertBusy(() -> assertEquals(1, coordinator.getPendingMerges()));
+        assertTrue(admitted.isEmpty());
+
+        running.close();
+        // closing twice must not release the bytes twice
+        running.close();
+        waiting.join();
+        assertEquals(1, admitted.size());
+        assertEquals(BUDGET / 2, coordinator.getMergingBytes());
+        assertEquals(1, coordinator.getTotalQueuedMerges());
+
+        admitted.get(0).close();
+        assertEquals(0, coordinator.getMergingBytes());
+    }
+
+    public void testMergesStartInPriorityOrder() throws Exception {
+        MergeCoordinator coordinator = newCoordinator(true);
+        Releasable running = coordinator.acquire(pendingMerge(BUDGET, false, 1), () -> false);
+
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        threads.add(startMerge(coordinator, "forced", pendingMerge(BUDGET, true, 100), order));
+        assertBusy(() -> assertEquals(1, coordinator.getPendingMerges()));
+        threads.add(startMerge(coordinator, "low_priority", pendingMerge(BUDGET, false, 1), order));
+        assertBusy(() -> assertEquals(2, coordinator.getPendingMerges()));
+        threads.add(startMerge(coordinator, "high_priority", pendingMerge(BUDGET, false, 10), order));
+        assertBusy(() -> assertEquals(3, coordinator.getPendingMerges()));
+
+        running.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(List.of("high_priority", "low_priority", "forced"), order);
+        assertEquals(0, coordinator.getMergingBytes());
+    }
+
+    public void testForcedMergesOnlyUseSpareCapacity() throws Exception {
+        MergeCoordinator coordinator = newCoordinator(true);
+        Releasable running = coordinator.acquire(pendingMerge(BUDGET / 2, false, 1), () -> false);
+        // regular merges may use the whole budget
+        coordinator.acquire(pendingMerge(BUDGET / 4, false, 1), () -> false).close();
+
+        List<Releasable> admitted = Collections.synchronizedList(new ArrayList<>());
+        Thread forced = new Thread(() -> admitted.add(coordinator.acquire(pendingMerge(BUDGET / 4, true, 1), () -> false)));
+        forced.start();
+        assertBusy(() -> assertEquals(1, coordinator.getPendingMerges()));
+        assertTrue(admitted.isEmpty());
+
+        running.close();
+        forced.join();
+        assertEquals(1, admitted.size());
+        admitted.get(0).close();
+        assertEquals(0, coordinator.getMergingBytes());
+    }
+
+    public void testAbortedMergeStopsWaiting() throws Exception {
+        MergeCoordinator coordinator = newCoordinator(true);
+        Releasable running = coordinator.acquire(pendingMerge(BUDGET, false, 1), () -> false);
+
+        AtomicBoolean aborted = new AtomicBoolean();
+        Thread waiting = new Thread(() -> coordinator.acquire(pendingMerge(BUDGET, false, 1), aborted::get).close());
+        waiting.start();
+        assertBusy(() -> assertEquals(1, coordinator.getPendingMerges()));
+        aborted.set(true);
+        waiting.join();
+        assertEquals(0, coordinator.getPendingMerges());
+        assertEquals(BUDGET, coordinator.getMergingBytes());
+        running.close();
+    }
+
+    private static Thread startMerge(MergeCoordinator coordinator, String name, MergeCoordinator.PendingMerge merge, List<String> order) {
+        Thread thread = new Thread(() -> {
+            Releasable releasable = coordinator.acquire(merge, () -> false);
+            order.add(name);
+            releasable.close();
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static MergeCoordinator.PendingMerge pendingMerge(long bytes, boolean forced, int indexPriority) {
+        return new MergeCoordinator.PendingMerge(SHARD_ID, bytes, forced, indexPriority, 10, 0);
+    }
+
+    private static MergeCoordinator newCoordinator(boolean enabled) {
+        Settings settings = Settings.builder()
+            .put(MergeCoordinator.MERGE_COORDINATOR_ENABLED.getKey(), enabled)
+            .put(MergeCoordinator.MERGE_COORDINATOR_MAX_MERGING_BYTES.getKey(), BUDGET + "b")
+            .build();
+        return new MergeCoordinator(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+}
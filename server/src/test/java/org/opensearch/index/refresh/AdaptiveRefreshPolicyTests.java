@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.refresh;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class AdaptiveRefreshPolicyTests extends OpenSearchTestCase {
+
+    private static final long MIN_INTERVAL = 1_000;
+    private static final long MAX_INTERVAL = 30_000;
+
+    public void testNeverSearchedShardUsesMaxInterval() {
+        AtomicLong now = new AtomicLong(randomLongBetween(0, 1_000_000));
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(now::get);
+        assertEquals(MAX_INTERVAL, policy.targetIntervalMillis(MIN_INTERVAL, MAX_INTERVAL));
+
+        now.addAndGet(MIN_INTERVAL);
+        assertTrue(policy.shouldDeferRefresh(MIN_INTERVAL, MAX_INTERVAL));
+        now.addAndGet(MAX_INTERVAL);
+        assertFalse(policy.shouldDeferRefresh(MIN_INTERVAL, MAX_INTERVAL));
+        assertEquals(1, policy.getDeferredRefreshes());
+    }
+
+    public void testFrequentlySearchedShardUsesMinInterval() {
+        AtomicLong now = new AtomicLong(randomLongBetween(0, 1_000_000));
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(now::get);
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(100);
+            policy.onSearch();
+        }
+        assertEquals(MIN_INTERVAL, policy.targetIntervalMillis(MIN_INTERVAL, MAX_INTERVAL));
+        policy.onRefresh();
+        now.addAndGet(randomLongBetween(0, 100));
+        // a shard refreshed at the minimum interval is never deferred, even if the scheduler runs a bit early
+        assertFalse(policy.shouldDeferRefresh(MIN_INTERVAL, MAX_INTERVAL));
+        assertEquals(0, policy.getDeferredRefreshes());
+    }
+
+    public void testIntervalFollowsSearchArrivalRate() {
+        AtomicLong now = new AtomicLong(randomLongBetween(0, 1_000_000));
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(now::get);
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(10_000);
+            policy.onSearch();
+        }
+        long targetInterval = policy.targetIntervalMillis(MIN_INTERVAL, MAX_INTERVAL);
+        assertThat(targetInterval, allOf(greaterThan(9_000L), lessThanOrEqualTo(10_000L)));
+        policy.onRefresh();
+
+        now.addAndGet(5_000);
+        assertTrue(policy.shouldDeferRefresh(MIN_INTERVAL, MAX_INTERVAL));
+        now.addAndGet(5_000);
+        assertFalse(policy.shouldDeferRefresh(MIN_INTERVAL, MAX_INTERVAL));
+
+        // the interval keeps growing while the shard is not searched, up to the maximum interval
+        now.addAndGet(60_000);
+        assertEquals(MAX_INTERVAL, policy.targetIntervalMillis(MIN_INTERVAL, MAX_INTERVAL));
+    }
+}
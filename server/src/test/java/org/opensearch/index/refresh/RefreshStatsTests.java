@@ -46,7 +46,8 @@ public class RefreshStatsTests extends OpenSearchTestCase {
             randomNonNegativeLong(),
             randomNonNegativeLong(),
             randomNonNegativeLong(),
-            between(0, Integer.MAX_VALUE)
+            between(0, Integer.MAX_VALUE),
+            randomNonNegativeLong()
         );
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
@@ -58,5 +59,6 @@ public class RefreshStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getListeners(), read.getListeners());
         assertEquals(stats.getTotalTimeInMillis(), read.getTotalTimeInMillis());
         assertEquals(stats.getExternalTotalTimeInMillis(), read.getExternalTotalTimeInMillis());
+        assertEquals(stats.getAdaptiveDeferred(), read.getAdaptiveDeferred());
     }
 }
@@ -4520,6 +4520,46 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(primary);
     }
 
+    public void testDeferredAdaptiveRefreshIsForcedBySearch() throws Exception {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexSettings.INDEX_REFRESH_ADAPTIVE_ENABLED_SETTING.getKey(), true)
+            .put(IndexSettings.INDEX_REFRESH_ADAPTIVE_MAX_INTERVAL_SETTING.getKey(), TimeValue.timeValueHours(1))
+            .build();
+        IndexMetadata metadata = IndexMetadata.builder("test")
+            .putMapping("{ \"properties\": { \"foo\":  { \"type\": \"text\"}}}")
+            .settings(settings)
+            .primaryTerm(0, 1)
+            .build();
+        IndexShard primary = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(primary);
+        indexDoc(primary, "_doc", "0", "{\"foo\" : \"bar\"}");
+        assertTrue(primary.getEngine().refreshNeeded());
+        assertFalse(primary.isSearchIdle());
+        // the shard was never searched, so its refreshes are deferred up to the max interval
+        assertFalse(primary.scheduledRefresh());
+        assertEquals(1, primary.refreshStats().getAdaptiveDeferred());
+        assertTrue(primary.hasRefreshPending());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        primary.awaitShardSearchActive(refreshed -> {
+            assertTrue(refreshed);
+            try (Engine.Searcher searcher = primary.acquireSearcher("test")) {
+                assertEquals(1, searcher.getIndexReader().numDocs());
+            } finally {
+                latch.countDown();
+            }
+        });
+        // the search waits for the next scheduled refresh, which isn't deferred anymore
+        assertTrue(primary.scheduledRefresh());
+        latch.await();
+        assertFalse(primary.hasRefreshPending());
+        assertEquals(1, primary.refreshStats().getAdaptiveDeferred());
+        closeShards(primary);
+    }
+
     public void testRefreshIsNeededWithRefreshListeners() throws IOException, InterruptedException {
         Settings settings = Settings.builder()
             .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
@@ -200,6 +200,7 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         metrics1.failedMessageCounter().inc(1);
         metrics1.failedMessageDroppedCounter().inc(1);
         metrics1.processorThreadInterruptCounter().inc(0);
+        metrics1.processingTimeInNanosCounter().inc(10);
 
         MessageProcessorRunnable.MessageProcessorMetrics metrics2 = MessageProcessorRunnable.MessageProcessorMetrics.create();
         metrics2.processedCounter().inc(100);
@@ -208,6 +209,7 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         metrics2.failedMessageCounter().inc(100);
         metrics2.failedMessageDroppedCounter().inc(100);
         metrics2.processorThreadInterruptCounter().inc(1);
+        metrics2.processingTimeInNanosCounter().inc(20);
 
         MessageProcessorRunnable.MessageProcessorMetrics combinedMetric = metrics1.combine(metrics2);
         assertEquals(200, combinedMetric.processedCounter().count());
@@ -216,6 +218,7 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         assertEquals(101, combinedMetric.failedMessageCounter().count());
         assertEquals(101, combinedMetric.failedMessageDroppedCounter().count());
         assertEquals(1, combinedMetric.processorThreadInterruptCounter().count());
+        assertEquals(30, combinedMetric.processingTimeInNanosCounter().count());
     }
 
     public void testMessageRetrySuccess() throws Exception {
@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.pollingingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -39,6 +40,8 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             + stats.getMessageProcessorStats().totalFailuresDroppedCount()
             + ",\"total_processor_thread_interrupt_count\":"
             + stats.getMessageProcessorStats().totalProcessorThreadInterruptCount()
+            + ",\"total_processing_time_in_millis\":"
+            + stats.getMessageProcessorStats().totalProcessingTimeInMillis()
             + "},\"consumer_stats\":{\"total_polled_count\":"
             + stats.getConsumerStats().totalPolledCount()
             + ",\"total_consumer_error_count\":"
@@ -69,12 +72,33 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSerializationWithPreviousVersion() throws IOException {
+        PollingIngestStats original = createTestInstance();
+
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            output.setVersion(Version.V_3_1_0);
+            original.writeTo(output);
+
+            try (StreamInput input = output.bytes().streamInput()) {
+                input.setVersion(Version.V_3_1_0);
+                PollingIngestStats deserialized = new PollingIngestStats(input);
+                assertEquals(original.getConsumerStats(), deserialized.getConsumerStats());
+                assertEquals(
+                    original.getMessageProcessorStats().totalProcessedCount(),
+                    deserialized.getMessageProcessorStats().totalProcessedCount()
+                );
+                assertEquals(0, deserialized.getMessageProcessorStats().totalProcessingTimeInMillis());
+            }
+        }
+    }
+
     private PollingIngestStats createTestInstance() {
         return PollingIngestStats.builder()
             .setTotalProcessedCount(randomNonNegativeLong())
             .setTotalInvalidMessageCount(randomNonNegativeLong())
             .setTotalPolledCount(randomNonNegativeLong())
             .setLagInMillis(randomNonNegativeLong())
+            .setTotalProcessingTimeInMillis(randomNonNegativeLong())
             .build();
     }
 }
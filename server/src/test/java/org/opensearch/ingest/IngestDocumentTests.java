@@ -161,6 +161,32 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSamePathAcrossDocuments() {
+        // parsed paths are shared across documents, but must resolve against the maps of each document
+        IngestDocument other = new IngestDocument("index", "id", null, null, null, Collections.singletonMap("fizz", Map.of("buzz", "bye")));
+        for (int i = 0; i < 3; i++) {
+            assertThat(ingestDocument.getFieldValue("fizz.buzz", String.class), equalTo("hello world"));
+            assertThat(other.getFieldValue("fizz.buzz", String.class), equalTo("bye"));
+            assertThat(ingestDocument.getFieldValue("_source.fizz.buzz", String.class), equalTo("hello world"));
+            assertThat(other.getFieldValue("_ingest.timestamp", ZonedDateTime.class), notNullValue());
+            other.setFieldValue("_ingest.field", "value" + i);
+            assertThat(other.getFieldValue("_ingest.field", String.class), equalTo("value" + i));
+            assertFalse(ingestDocument.hasField("_ingest.field"));
+        }
+    }
+
+    public void testParsedFieldPathsAreBounded() {
+        // paths rendered from templates differ per document and can be of any length
+        String prefix = randomAlphaOfLength(1000);
+        for (int i = 0; i < 5000; i++) {
+            assertFalse(ingestDocument.hasField(prefix + "." + i));
+        }
+        assertThat(IngestDocument.ParsedFieldPath.CACHE.weight(), lessThanOrEqualTo(IngestDocument.ParsedFieldPath.MAX_CACHED_PATHS_BYTES));
+        // paths used afterwards are still parsed and cached
+        assertThat(ingestDocument.getFieldValue("fizz.buzz", String.class), equalTo("hello world"));
+        assertNotNull(IngestDocument.ParsedFieldPath.CACHE.get("fizz.buzz"));
+    }
+
     public void testGetFieldValueNullValue() {
         assertThat(ingestDocument.getFieldValue("fizz.foo_null", Object.class), nullValue());
     }
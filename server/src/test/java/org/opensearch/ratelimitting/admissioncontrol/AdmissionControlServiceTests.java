@@ -51,9 +51,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
     public void testWhenAdmissionControllerRegistered() {
         admissionControlService = new AdmissionControlService(Settings.EMPTY, clusterService, threadPool, null);
         if (Constants.LINUX) {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 2);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 3);
         } else {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 1);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 2);
         }
     }
 
@@ -61,9 +61,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         String test = "TEST";
         admissionControlService = new AdmissionControlService(Settings.EMPTY, clusterService, threadPool, null);
         if (Constants.LINUX) {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 2);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 3);
         } else {
-            assertEquals(admissionControlService.getAdmissionControllers().size(), 1);
+            assertEquals(admissionControlService.getAdmissionControllers().size(), 2);
         }
         IllegalArgumentException ex = expectThrows(
             IllegalArgumentException.class,
@@ -77,9 +77,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         AdmissionControlSettings admissionControlSettings = admissionControlService.admissionControlSettings;
         List<AdmissionController> admissionControllerList = admissionControlService.getAdmissionControllers();
         if (Constants.LINUX) {
-            assertEquals(admissionControllerList.size(), 2);
+            assertEquals(admissionControllerList.size(), 3);
         } else {
-            assertEquals(admissionControllerList.size(), 1);
+            assertEquals(admissionControllerList.size(), 2);
         }
         CpuBasedAdmissionController cpuBasedAdmissionController = (CpuBasedAdmissionController) admissionControlService
             .getAdmissionController(CpuBasedAdmissionController.CPU_BASED_ADMISSION_CONTROLLER);
@@ -147,9 +147,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         clusterService.getClusterSettings().applySettings(settings);
         List<AdmissionController> admissionControllerList = admissionControlService.getAdmissionControllers();
         if (Constants.LINUX) {
-            assertEquals(admissionControllerList.size(), 2);
+            assertEquals(admissionControllerList.size(), 3);
         } else {
-            assertEquals(admissionControllerList.size(), 1);
+            assertEquals(admissionControllerList.size(), 2);
         }
     }
 
@@ -172,9 +172,9 @@ public class AdmissionControlServiceTests extends OpenSearchTestCase {
         clusterService.getClusterSettings().applySettings(settings);
         List<AdmissionController> admissionControllerList = admissionControlService.getAdmissionControllers();
         if (Constants.LINUX) {
-            assertEquals(admissionControllerList.size(), 2);
+            assertEquals(admissionControllerList.size(), 3);
         } else {
-            assertEquals(admissionControllerList.size(), 1);
+            assertEquals(admissionControllerList.size(), 2);
         }
     }
 }
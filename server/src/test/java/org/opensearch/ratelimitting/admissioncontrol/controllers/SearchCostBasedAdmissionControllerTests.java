@@ -0,0 +1,269 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ratelimitting.admissioncontrol.controllers;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlActionType;
+import org.opensearch.ratelimitting.admissioncontrol.enums.AdmissionControlMode;
+import org.opensearch.ratelimitting.admissioncontrol.settings.SearchCostBasedAdmissionControllerSettings;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SearchCostBasedAdmissionControllerTests extends OpenSearchTestCase {
+    private ClusterService clusterService;
+    private ThreadPool threadPool;
+    SearchCostBasedAdmissionController admissionController = null;
+    String action = "indices:data/read/search[phase/query]";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("admission_controller_settings_test");
+        clusterService = ClusterServiceUtils.createClusterService(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdownNow();
+    }
+
+    public void testCheckDefaultParameters() {
+        admissionController = new SearchCostBasedAdmissionController(
+            SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            Settings.EMPTY
+        );
+        assertEquals(admissionController.getName(), SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER);
+        assertEquals(admissionController.getRejectionCount(AdmissionControlActionType.SEARCH.getType()), 0);
+        assertEquals(admissionController.settings.getTransportLayerAdmissionControllerMode(), AdmissionControlMode.DISABLED);
+        assertEquals(admissionController.settings.getCostBudget(), SearchCostBasedAdmissionControllerSettings.Defaults.COST_BUDGET);
+        assertFalse(
+            admissionController.isEnabledForTransportLayer(admissionController.settings.getTransportLayerAdmissionControllerMode())
+        );
+    }
+
+    public void testDisabledControllerDoesNotTrackCost() {
+        admissionController = new SearchCostBasedAdmissionController(
+            SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            Settings.EMPTY
+        );
+        Releasable admitted = admissionController.apply(action, AdmissionControlActionType.SEARCH, shardSearchRequest(expensiveSource()));
+        assertEquals(0, admissionController.getInFlightCost());
+        admitted.close();
+    }
+
+    public void testNonSearchRequestsAreIgnored() {
+        admissionController = new SearchCostBasedAdmissionController(
+            SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            enforcedSettings(1, 0)
+        );
+        admissionController.apply(action, AdmissionControlActionType.INDEXING, mock(TransportRequest.class)).close();
+        admissionController.apply(action, AdmissionControlActionType.SEARCH, mock(TransportRequest.class)).close();
+        assertEquals(0, admissionController.getInFlightCost());
+        assertEquals(0, admissionController.getRejectionCount(AdmissionControlActionType.SEARCH.getType()));
+    }
+
+    public void testExpensiveRequestRejectedWhenBudgetExhausted() {
+        long expensiveCost = SearchCostEstimator.staticEstimate(expensiveSource());
+        admissionController = new SearchCostBasedAdmissionController(
+            SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            enforcedSettings(expensiveCost, 2)
+        );
+        Releasable first = admissionController.apply(action, AdmissionControlActionType.SEARCH, shardSearchRequest(expensiveSource()));
+        assertEquals(expensiveCost, admissionController.getInFlightCost());
+
+        expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> admissionController.apply(action, AdmissionControlActionType.SEARCH, shardSearchRequest(expensiveSource()))
+        );
+        assertEquals(1, admissionController.getRejectionCount(AdmissionControlActionType.SEARCH.getType()));
+
+        // cheap requests are still admitted while the budget is exhausted
+        Releasable cheap = admissionController.apply(
+            action,
+            AdmissionControlActionType.SEARCH,
+            shardSearchRequest(new SearchSourceBuilder())
+        );
+        assertEquals(expensiveCost + SearchCostEstimator.BASE_COST, admissionController.getInFlightCost());
+
+        cheap.close();
+        first.close();
+        // closing twice must not release the cost twice
+        first.close();
+        assertEquals(0, admissionController.getInFlightCost());
+        assertEquals(2, admissionController.getCostEstimator().trackedShapes());
+    }
+
+    public void testConcurrentRequestsDoNotOvershootBudget() throws Exception {
+        long expensiveCost = SearchCostEstimator.staticEstimate(expensiveSource());
+        admissionController = new SearchCostBasedAdmissionController(
+            SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            enforcedSettings(2 * expensiveCost, 2)
+        );
+        int numThreads = randomIntBetween(4, 8);
+        ShardSearchRequest[] requests = new ShardSearchRequest[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            requests[i] = shardSearchRequest(expensiveSource());
+        }
+        List<Releasable> admitted = new CopyOnWriteArrayList<>();
+        CyclicBarrier barrier = new CyclicBarrier(numThreads);
+        Thread[] threads = new Thread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            ShardSearchRequest request = requests[i];
+            threads[i] = new Thread(() -> {
+                try {
+                    barrier.await();
+                    admitted.add(admissionController.apply(action, AdmissionControlActionType.SEARCH, request));
+                } catch (OpenSearchRejectedExecutionException e) {
+                    // rejected as the budget is exhausted
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(2, admitted.size());
+        assertEquals(numThreads - 2, admissionController.getRejectionCount(AdmissionControlActionType.SEARCH.getType()));
+        assertEquals(2 * expensiveCost, admissionController.getInFlightCost());
+        Releasables.close(admitted);
+        assertEquals(0, admissionController.getInFlightCost());
+    }
+
+    public void testMonitorModeOnlyCountsRejections() {
+        long expensiveCost = SearchCostEstimator.staticEstimate(expensiveSource());
+        Settings settings = Settings.builder()
+            .put(
+                SearchCostBasedAdmissionControllerSettings.SEARCH_COST_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.getKey(),
+                AdmissionControlMode.MONITOR.getMode()
+            )
+            .put(SearchCostBasedAdmissionControllerSettings.SEARCH_COST_BUDGET.getKey(), expensiveCost)
+            .put(SearchCostBasedAdmissionControllerSettings.SEARCH_CHEAP_REQUEST_COST_LIMIT.getKey(), 0)
+            .build();
+        admissionController = new SearchCostBasedAdmissionController(
+            SearchCostBasedAdmissionController.SEARCH_COST_BASED_ADMISSION_CONTROLLER,
+            null,
+            clusterService,
+            settings
+        );
+        Releasable first = admissionController.apply(action, AdmissionControlActionType.SEARCH, shardSearchRequest(expensiveSource()));
+        Releasable second = admissionController.apply(action, AdmissionControlActionType.SEARCH, shardSearchRequest(expensiveSource()));
+        assertEquals(1, admissionController.getRejectionCount(AdmissionControlActionType.SEARCH.getType()));
+        assertEquals(2 * expensiveCost, admissionController.getInFlightCost());
+        first.close();
+        second.close();
+        assertEquals(0, admissionController.getInFlightCost());
+    }
+
+    public void testEstimatorPrefersObservedCost() {
+        SearchCostEstimator estimator = new SearchCostEstimator(2);
+        ShardSearchRequest request = shardSearchRequest(expensiveSource());
+        String shape = SearchCostEstimator.shapeOf(action, request);
+        assertEquals(SearchCostEstimator.staticEstimate(request.source()), estimator.estimate(shape, request.source()));
+        estimator.onCompletion(shape, 500);
+        assertEquals(500, estimator.estimate(shape, request.source()));
+        assertEquals(1, estimator.trackedShapes());
+    }
+
+    public void testShapeIgnoresValues() {
+        SearchSourceBuilder first = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery().filter(QueryBuilders.termQuery("status", 200)).must(QueryBuilders.matchQuery("message", "error"))
+        );
+        SearchSourceBuilder second = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery().filter(QueryBuilders.termQuery("status", 404)).must(QueryBuilders.matchQuery("message", "timeout"))
+        );
+        assertEquals(
+            SearchCostEstimator.shapeOf(action, shardSearchRequest(first)),
+            SearchCostEstimator.shapeOf(action, shardSearchRequest(second))
+        );
+        assertNotEquals(
+            SearchCostEstimator.shapeOf(action, shardSearchRequest(first)),
+            SearchCostEstimator.shapeOf(action, shardSearchRequest(expensiveSource()))
+        );
+    }
+
+    public void testPhasesAreEstimatedSeparately() {
+        SearchCostEstimator estimator = new SearchCostEstimator();
+        ShardSearchRequest request = shardSearchRequest(expensiveSource());
+        String dfsShape = SearchCostEstimator.shapeOf("indices:data/read/search[phase/dfs]", request);
+        String queryShape = SearchCostEstimator.shapeOf(action, request);
+        assertNotEquals(dfsShape, queryShape);
+        estimator.onCompletion(dfsShape, 5000);
+        assertEquals(5000, estimator.estimate(dfsShape, request.source()));
+        assertEquals(SearchCostEstimator.staticEstimate(request.source()), estimator.estimate(queryShape, request.source()));
+    }
+
+    private static Settings enforcedSettings(long budget, long cheapRequestCostLimit) {
+        return Settings.builder()
+            .put(
+                SearchCostBasedAdmissionControllerSettings.SEARCH_COST_BASED_ADMISSION_CONTROLLER_TRANSPORT_LAYER_MODE.getKey(),
+                AdmissionControlMode.ENFORCED.getMode()
+            )
+            .put(SearchCostBasedAdmissionControllerSettings.SEARCH_COST_BUDGET.getKey(), budget)
+            .put(SearchCostBasedAdmissionControllerSettings.SEARCH_CHEAP_REQUEST_COST_LIMIT.getKey(), cheapRequestCostLimit)
+            .build();
+    }
+
+    private static SearchSourceBuilder expensiveSource() {
+        return new SearchSourceBuilder().size(0)
+            .aggregation(
+                AggregationBuilders.terms("hosts")
+                    .field("host")
+                    .subAggregation(
+                        AggregationBuilders.dateHistogram("per_hour")
+                            .field("@timestamp")
+                            .subAggregation(AggregationBuilders.cardinality("users"))
+                    )
+            );
+    }
+
+    private static ShardSearchRequest shardSearchRequest(SearchSourceBuilder source) {
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.shardId()).thenReturn(new ShardId("logs", "_na_", 0));
+        when(request.source()).thenReturn(source);
+        return request;
+    }
+}
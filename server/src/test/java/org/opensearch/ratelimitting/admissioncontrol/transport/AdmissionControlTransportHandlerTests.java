@@ -8,6 +8,7 @@
 
 package org.opensearch.ratelimitting.admissioncontrol.transport;
 
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.ratelimitting.admissioncontrol.AdmissionControlService;
 import org.opensearch.tasks.Task;
@@ -16,8 +17,13 @@ import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportRequestHandler;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class AdmissionControlTransportHandlerTests extends OpenSearchTestCase {
     AdmissionControlTransportHandler<TransportRequest> admissionControlTransportHandler;
@@ -25,10 +31,12 @@ public class AdmissionControlTransportHandlerTests extends OpenSearchTestCase {
     public void testHandlerInvoked() throws Exception {
         String action = "TEST";
         InterceptingRequestHandler<TransportRequest> handler = new InterceptingRequestHandler<>(action);
+        AdmissionControlService admissionControlService = mock(AdmissionControlService.class);
+        when(admissionControlService.applyTransportAdmissionControl(eq(action), isNull(), any())).thenReturn(() -> {});
         admissionControlTransportHandler = new AdmissionControlTransportHandler<TransportRequest>(
             action,
             handler,
-            mock(AdmissionControlService.class),
+            admissionControlService,
             false,
             null
         );
@@ -36,10 +44,29 @@ public class AdmissionControlTransportHandlerTests extends OpenSearchTestCase {
         assertEquals(1, handler.count);
     }
 
+    public void testAdmissionReleasedOnResponse() throws Exception {
+        String action = "TEST";
+        AdmissionControlService admissionControlService = mock(AdmissionControlService.class);
+        Releasable admitted = mock(Releasable.class);
+        when(admissionControlService.applyTransportAdmissionControl(eq(action), isNull(), any())).thenReturn(admitted);
+        TransportChannel channel = mock(TransportChannel.class);
+        admissionControlTransportHandler = new AdmissionControlTransportHandler<TransportRequest>(
+            action,
+            (request, responseChannel, task) -> responseChannel.sendResponse(new OpenSearchRejectedExecutionException()),
+            admissionControlService,
+            false,
+            null
+        );
+        admissionControlTransportHandler.messageReceived(mock(TransportRequest.class), channel, mock(Task.class));
+        verify(admitted).close();
+        verify(channel).sendResponse(any(Exception.class));
+    }
+
     public void testHandlerInvokedRejectedException() throws Exception {
         String action = "TEST";
         AdmissionControlService admissionControlService = mock(AdmissionControlService.class);
-        doThrow(new OpenSearchRejectedExecutionException()).when(admissionControlService).applyTransportAdmissionControl(action, null);
+        doThrow(new OpenSearchRejectedExecutionException()).when(admissionControlService)
+            .applyTransportAdmissionControl(eq(action), isNull(), any());
         InterceptingRequestHandler<TransportRequest> handler = new InterceptingRequestHandler<>(action);
         admissionControlTransportHandler = new AdmissionControlTransportHandler<TransportRequest>(
             action,
@@ -57,7 +84,8 @@ public class AdmissionControlTransportHandlerTests extends OpenSearchTestCase {
     public void testHandlerInvokedRandomException() throws Exception {
         String action = "TEST";
         AdmissionControlService admissionControlService = mock(AdmissionControlService.class);
-        doThrow(new NullPointerException()).when(admissionControlService).applyTransportAdmissionControl(action, null);
+        doThrow(new NullPointerException()).when(admissionControlService)
+            .applyTransportAdmissionControl(eq(action), isNull(), any());
         InterceptingRequestHandler<TransportRequest> handler = new InterceptingRequestHandler<>(action);
         admissionControlTransportHandler = new AdmissionControlTransportHandler<TransportRequest>(
             action,
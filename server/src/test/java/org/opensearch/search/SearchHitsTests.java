@@ -35,6 +35,7 @@ package org.opensearch.search;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.tests.util.TestUtil;
+import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.lucene.LuceneTests;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -322,4 +323,38 @@ public class SearchHitsTests extends AbstractSerializingTestCase<SearchHits> {
 
         }
     }
+
+    public void testSerializationSharesShardTargets() throws IOException {
+        SearchShardTarget[] shardTargets = new SearchShardTarget[randomIntBetween(1, 3)];
+        for (int i = 0; i < shardTargets.length; i++) {
+            shardTargets[i] = new SearchShardTarget(
+                randomAlphaOfLengthBetween(5, 10),
+                new ShardId(new Index(randomAlphaOfLengthBetween(5, 10), randomAlphaOfLengthBetween(5, 10)), i),
+                randomBoolean() ? null : randomAlphaOfLengthBetween(5, 10),
+                OriginalIndices.NONE
+            );
+        }
+        SearchHit[] hits = new SearchHit[randomIntBetween(1, 20)];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new SearchHit(i, "id" + i, Collections.emptyMap(), Collections.emptyMap());
+            // some hits, such as the ones of inner hits, have no shard target
+            hits[i].shard(randomBoolean() ? null : randomFrom(shardTargets));
+        }
+        SearchHits searchHits = new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), Float.NaN);
+
+        SearchHits copy = copyInstance(searchHits, Version.CURRENT);
+        for (int i = 0; i < hits.length; i++) {
+            assertEquals(hits[i].getShard(), copy.getAt(i).getShard());
+            for (int j = 0; j < i; j++) {
+                if (hits[i].getShard() != null && hits[i].getShard() == hits[j].getShard()) {
+                    assertSame(copy.getAt(j).getShard(), copy.getAt(i).getShard());
+                }
+            }
+        }
+
+        copy = copyInstance(searchHits, Version.V_3_1_0);
+        for (int i = 0; i < hits.length; i++) {
+            assertEquals(hits[i].getShard(), copy.getAt(i).getShard());
+        }
+    }
 }
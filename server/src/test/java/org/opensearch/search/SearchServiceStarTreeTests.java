@@ -515,10 +515,32 @@ public class SearchServiceStarTreeTests extends OpenSearchSingleNodeTestCase {
         sourceBuilder = new SearchSourceBuilder().size(0).aggregation(dateHistogramAggregationBuilder);
         assertStarTreeContext(request, sourceBuilder, null, -1);
 
-        // Case 8: Date histogram with no metric aggregation - does not use star-tree
+        // Case 8: Date histogram with no metric aggregation - uses the doc counts of the star-tree
         dateHistogramAggregationBuilder = dateHistogram("by_day").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.DAY);
         sourceBuilder = new SearchSourceBuilder().size(0).aggregation(dateHistogramAggregationBuilder);
-        assertStarTreeContext(request, sourceBuilder, null, -1);
+        assertStarTreeContext(
+            request,
+            sourceBuilder,
+            getStarTreeQueryContext(
+                searchContext,
+                starTreeFieldConfiguration,
+                "startree1",
+                -1,
+                List.of(
+                    new DateDimension(
+                        TIMESTAMP_FIELD,
+                        List.of(new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH)),
+                        DateFieldMapper.Resolution.MILLISECONDS
+                    ),
+                    new NumericDimension(STATUS)
+                ),
+                List.of(new Metric(STATUS, List.of(MetricStat.SUM, MetricStat.MAX))),
+                null,
+                sourceBuilder,
+                true
+            ),
+            -1
+        );
 
         // Case 9: Date histogram with no valid time interval to resolve aggregation - should not use star-tree
         dateHistogramAggregationBuilder = dateHistogram("by_sec").field(TIMESTAMP_FIELD)
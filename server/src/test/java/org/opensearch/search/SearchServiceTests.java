@@ -81,6 +81,7 @@ import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.shard.IndexShard;
@@ -1140,6 +1141,58 @@ public class SearchServiceTests extends OpenSearchSingleNodeTestCase {
         latch.await();
     }
 
+    public void testCanMatchReaderVersion() throws Exception {
+        createIndexWithSimpleMappings("index", Settings.EMPTY, "timestamp", "type=date");
+        client().prepareIndex("index").setId("1").setSource("timestamp", "2020-01-01").setRefreshPolicy(IMMEDIATE).get();
+        final SearchService service = getInstanceFromNode(SearchService.class);
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final IndexShard indexShard = indicesService.indexServiceSafe(resolveIndex("index")).getShard(0);
+        final long readerVersion;
+        try (Engine.Searcher searcher = indexShard.acquireSearcher("test")) {
+            readerVersion = searcher.getDirectoryReader().getVersion();
+        }
+
+        final String readerCopyId = indexShard.routingEntry().allocationId().getId() + "/" + indexShard.getHistoryUUID();
+
+        // only requests that explicitly opted into the request cache report the reader version
+        SearchRequest searchRequest = new SearchRequest().allowPartialSearchResults(true);
+        searchRequest.source(new SearchSourceBuilder().query(new MatchAllQueryBuilder()));
+        assertNotCacheable(service.canMatch(shardRequest(searchRequest, indexShard, true)));
+
+        searchRequest.requestCache(true);
+        SearchService.CanMatchResponse response = service.canMatch(shardRequest(searchRequest, indexShard, true));
+        assertEquals(readerCopyId, response.readerCopyId());
+        assertEquals(readerVersion, response.readerVersion());
+
+        // the coordinating node did not ask for it
+        assertNotCacheable(service.canMatch(shardRequest(searchRequest, indexShard, false)));
+
+        // the response depends on the current time
+        searchRequest.source(new SearchSourceBuilder().query(new RangeQueryBuilder("timestamp").gte("now-1d")));
+        assertNotCacheable(service.canMatch(shardRequest(searchRequest, indexShard, true)));
+    }
+
+    private static void assertNotCacheable(SearchService.CanMatchResponse response) {
+        assertNull(response.readerCopyId());
+        assertEquals(-1, response.readerVersion());
+    }
+
+    private static ShardSearchRequest shardRequest(SearchRequest searchRequest, IndexShard indexShard, boolean cacheOnCoordinator) {
+        ShardSearchRequest request = new ShardSearchRequest(
+            OriginalIndices.NONE,
+            searchRequest,
+            indexShard.shardId(),
+            1,
+            new AliasFilter(null, Strings.EMPTY_ARRAY),
+            1f,
+            -1,
+            null,
+            null
+        );
+        request.cacheOnCoordinator(cacheOnCoordinator);
+        return request;
+    }
+
     public void testCanRewriteToMatchNone() {
         assertFalse(
             SearchService.canRewriteToMatchNone(
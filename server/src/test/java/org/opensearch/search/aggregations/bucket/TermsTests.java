@@ -113,6 +113,9 @@ public class TermsTests extends BaseAggregationTestCase<TermsAggregationBuilder>
         if (randomBoolean()) {
             factory.format("###.##");
         }
+        if (randomBoolean()) {
+            factory.twoPhase(randomBoolean());
+        }
         if (randomBoolean()) {
             IncludeExclude incExc = null;
             switch (randomInt(6)) {
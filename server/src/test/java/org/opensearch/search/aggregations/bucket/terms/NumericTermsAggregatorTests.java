@@ -32,16 +32,23 @@
 package org.opensearch.search.aggregations.bucket.terms;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.NumericUtils;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.aggregations.AggregationExecutionException;
@@ -50,6 +57,7 @@ import org.opensearch.search.aggregations.support.ValueType;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -57,6 +65,7 @@ import static org.hamcrest.Matchers.equalTo;
 
 public class NumericTermsAggregatorTests extends AggregatorTestCase {
     private static final String LONG_FIELD = "long";
+    private static final String DOUBLE_FIELD = "double";
 
     private static final List<Long> dataset;
     static {
@@ -159,6 +168,174 @@ public class NumericTermsAggregatorTests extends AggregatorTestCase {
 
     }
 
+    public void testCollectFromPointValues() throws IOException {
+        long[] statusCodes = new long[] { 200, 301, 404, 500 };
+        long[] expectedCounts = new long[statusCodes.length];
+        List<Long> statusDataset = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int index = i % 10 < 7 ? 0 : i % 10 - 6;
+            statusDataset.add(statusCodes[index]);
+            expectedCounts[index]++;
+        }
+
+        testSearchCase(new MatchAllDocsQuery(), statusDataset, aggregation -> aggregation.field(LONG_FIELD), agg -> {
+            assertEquals(4, agg.getBuckets().size());
+            for (int i = 0; i < statusCodes.length; i++) {
+                LongTerms.Bucket bucket = (LongTerms.Bucket) agg.getBucketByKey(String.valueOf(statusCodes[i]));
+                assertThat(bucket.getDocCount(), equalTo(expectedCounts[i]));
+            }
+        }, null);
+
+        testSearchCase(LongPoint.newRangeQuery(LONG_FIELD, 300, 450), statusDataset, aggregation -> aggregation.field(LONG_FIELD), agg -> {
+            assertEquals(2, agg.getBuckets().size());
+            assertThat(agg.getBucketByKey("301").getDocCount(), equalTo(expectedCounts[1]));
+            assertThat(agg.getBucketByKey("404").getDocCount(), equalTo(expectedCounts[2]));
+        }, null);
+
+        IncludeExclude includeExclude = new IncludeExclude(new double[] { 200, 500 }, null);
+        testSearchCase(
+            new MatchAllDocsQuery(),
+            statusDataset,
+            aggregation -> aggregation.field(LONG_FIELD).includeExclude(includeExclude),
+            agg -> {
+                assertEquals(2, agg.getBuckets().size());
+                assertThat(agg.getBucketByKey("200").getDocCount(), equalTo(expectedCounts[0]));
+                assertThat(agg.getBucketByKey("500").getDocCount(), equalTo(expectedCounts[3]));
+            },
+            null
+        );
+    }
+
+    public void testCollectDoublesFromPointValues() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 1000; i++) {
+                    double value = i % 4 == 0 ? -1.5 : 2.5;
+                    indexWriter.addDocument(
+                        Arrays.asList(
+                            new SortedNumericDocValuesField(DOUBLE_FIELD, NumericUtils.doubleToSortableLong(value)),
+                            new DoublePoint(DOUBLE_FIELD, value)
+                        )
+                    );
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(DOUBLE_FIELD, NumberFieldMapper.NumberType.DOUBLE);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field(DOUBLE_FIELD);
+
+                DoubleTerms terms = searchAndReduce(indexSearcher, new MatchAllDocsQuery(), aggregationBuilder, fieldType);
+                assertEquals(2, terms.getBuckets().size());
+                assertThat(terms.getBucketByKey("2.5").getDocCount(), equalTo(750L));
+                assertThat(terms.getBucketByKey("-1.5").getDocCount(), equalTo(250L));
+            }
+        }
+    }
+
+    public void testTryCollectFromPointValues() throws IOException {
+        try (Directory directory = newDirectory()) {
+            // one segment per commit
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int i = 0; i < 3000; i++) {
+                    indexWriter.addDocument(longDocument(i % 3));
+                }
+                indexWriter.commit();
+                // more distinct values than are counted from the point tree
+                for (int i = 0; i < 3000; i++) {
+                    indexWriter.addDocument(longDocument(i));
+                }
+                indexWriter.commit();
+                // a document with several points
+                Document document = longDocument(1);
+                document.add(new SortedNumericDocValuesField(LONG_FIELD, 2));
+                document.add(new LongPoint(LONG_FIELD, 2));
+                indexWriter.addDocument(document);
+                indexWriter.commit();
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertEquals(3, indexReader.leaves().size());
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(LONG_FIELD, NumberFieldMapper.NumberType.LONG);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field(LONG_FIELD);
+
+                NumericTermsAggregator aggregator = createAggregator(
+                    new MatchAllDocsQuery(),
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertTrue(aggregator.tryCollectFromPointValues(indexReader.leaves().get(0)));
+                assertFalse(aggregator.tryCollectFromPointValues(indexReader.leaves().get(1)));
+                assertFalse(aggregator.tryCollectFromPointValues(indexReader.leaves().get(2)));
+
+                aggregator = createAggregator(
+                    new TermQuery(new Term("other", "value")),
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertFalse(aggregator.tryCollectFromPointValues(indexReader.leaves().get(0)));
+
+                aggregator = createAggregator(
+                    LongPoint.newRangeQuery(LONG_FIELD, 1, 2),
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertTrue(aggregator.tryCollectFromPointValues(indexReader.leaves().get(0)));
+            }
+        }
+    }
+
+    public void testCollectFromPointValuesWithRangeContainingLeaves() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                // leaves of the point tree mix several values, and the range below fully contains most of them
+                for (int i = 0; i < 9000; i++) {
+                    indexWriter.addDocument(longDocument(i % 900));
+                }
+                indexWriter.commit();
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertEquals(1, indexReader.leaves().size());
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(LONG_FIELD, NumberFieldMapper.NumberType.LONG);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field(LONG_FIELD).size(1000);
+                Query query = LongPoint.newRangeQuery(LONG_FIELD, 100, 799);
+
+                NumericTermsAggregator aggregator = createAggregator(
+                    query,
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertTrue(aggregator.tryCollectFromPointValues(indexReader.leaves().get(0)));
+
+                LongTerms terms = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                assertEquals(700, terms.getBuckets().size());
+                for (LongTerms.Bucket bucket : terms.getBuckets()) {
+                    long value = bucket.getKeyAsNumber().longValue();
+                    assertTrue(value >= 100 && value <= 799);
+                    assertThat(bucket.getDocCount(), equalTo(10L));
+                }
+            }
+        }
+    }
+
+    private static Document longDocument(long value) {
+        Document document = new Document();
+        document.add(new SortedNumericDocValuesField(LONG_FIELD, value));
+        document.add(new LongPoint(LONG_FIELD, value));
+        return document;
+    }
+
     private void testSearchCase(
         Query query,
         List<Long> dataset,
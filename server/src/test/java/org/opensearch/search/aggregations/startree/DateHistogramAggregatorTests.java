@@ -162,6 +162,23 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
             new DateFieldMapper.DateFieldType(TIMESTAMP_FIELD)
         );
 
+        // doc counts only, without metric sub-aggregations
+        for (DateHistogramInterval interval : List.of(DateHistogramInterval.DAY, DateHistogramInterval.MONTH, DateHistogramInterval.YEAR)) {
+            DateHistogramAggregationBuilder dateHistogramAggregationBuilder = dateHistogram("by_interval").field(TIMESTAMP_FIELD)
+                .calendarInterval(interval);
+            testCase(indexSearcher, new MatchAllDocsQuery(), null, dateHistogramAggregationBuilder, starTree, supportedDimensions);
+
+            long queryValue = random.nextInt(10);
+            testCase(
+                indexSearcher,
+                SortedNumericDocValuesField.newSlowExactQuery(STATUS, queryValue),
+                new TermQueryBuilder(STATUS, queryValue),
+                dateHistogramAggregationBuilder,
+                starTree,
+                supportedDimensions
+            );
+        }
+
         for (ValuesSourceAggregationBuilder aggregationBuilder : agggBuilders) {
             Query query = new MatchAllDocsQuery();
             QueryBuilder queryBuilder = null;
@@ -18,13 +18,16 @@ import org.apache.lucene.document.FloatPoint;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.sandbox.document.BigIntegerPoint;
 import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
@@ -33,6 +36,8 @@ import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateMathParser;
 import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchSortValuesAndFormats;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
@@ -1188,4 +1193,201 @@ public class ApproximatePointRangeQueryTests extends OpenSearchTestCase {
             assertTrue("Should approximate with single sort on same field", query.canApproximate(mockContext));
         }
     }
+
+    public void testSearchAfter() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 1000, 3000);
+                for (int i = 0; i < numPoints; i++) {
+                    // every value is shared by a few documents to exercise ties on the search_after value
+                    int value = i / 3;
+                    Document doc = new Document();
+                    numericType.addField(doc, numericType.fieldName, value);
+                    numericType.addDocValuesField(doc, numericType.fieldName, value);
+                    iw.addDocument(doc);
+                    if (random().nextInt(20) == 0) {
+                        iw.flush();
+                    }
+                }
+                iw.flush();
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    SortOrder order = randomFrom(SortOrder.values());
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), order == SortOrder.DESC)
+                    );
+                    Query exactQuery = numericType.rangeQuery(numericType.fieldName, 0, 5000);
+                    int size = RandomNumbers.randomIntBetween(random(), 5, 20);
+                    TopDocs firstPage = searcher.search(exactQuery, RandomNumbers.randomIntBetween(random(), 1, 500), sort);
+                    FieldDoc after = (FieldDoc) firstPage.scoreDocs[firstPage.scoreDocs.length - 1];
+
+                    ApproximatePointRangeQuery query = new ApproximatePointRangeQuery(
+                        numericType.fieldName,
+                        numericType.encode(0),
+                        numericType.encode(5000),
+                        1,
+                        numericType.format
+                    );
+                    SearchContext context = mockContext(order, size, SearchContext.TRACK_TOTAL_HITS_DISABLED, after, null);
+                    if (numericType == NumericType.HALF_FLOAT || numericType == NumericType.UNSIGNED_LONG) {
+                        // the sort values of these fields are not encoded like their points
+                        assertFalse(query.canApproximate(context));
+                        return;
+                    }
+                    assertTrue(query.canApproximate(context));
+                    TopDocs approxPage = searcher.searchAfter(after, query, size, sort);
+                    TopDocs exactPage = searcher.searchAfter(after, exactQuery, size, sort);
+                    assertEquals(exactPage.scoreDocs.length, approxPage.scoreDocs.length);
+                    for (int i = 0; i < exactPage.scoreDocs.length; i++) {
+                        // the documents that are tied with the last hit may differ, their sort values may not
+                        assertEquals(
+                            "Mismatch at doc index " + i,
+                            ((FieldDoc) exactPage.scoreDocs[i]).fields[0],
+                            ((FieldDoc) approxPage.scoreDocs[i]).fields[0]
+                        );
+                    }
+
+                    // the hit count must be tracked over the whole range
+                    assertFalse(query.canApproximate(mockContext(order, size, SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO, after, null)));
+                }
+            }
+        }
+    }
+
+    public void testSearchAfterWithMultiValuedField() throws IOException {
+        assumeTrue("the documents are built for a long field", numericType == NumericType.LONG);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 1000, 3000);
+                for (int i = 0; i < numPoints; i++) {
+                    // the largest value of every document sorts after any search_after value
+                    long[] values = new long[] { i / 3, 10000 + i };
+                    Document doc = new Document();
+                    for (long value : values) {
+                        doc.add(new LongPoint(numericType.fieldName, value));
+                        doc.add(new SortedNumericDocValuesField(numericType.fieldName, value));
+                    }
+                    iw.addDocument(doc);
+                    if (random().nextInt(20) == 0) {
+                        iw.flush();
+                    }
+                }
+                iw.flush();
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    // sorted on the minimum value of each document
+                    Sort sort = new Sort(new SortedNumericSortField(numericType.fieldName, SortField.Type.LONG));
+                    Query exactQuery = LongPoint.newRangeQuery(numericType.fieldName, 0, 20000);
+                    int size = RandomNumbers.randomIntBetween(random(), 5, 20);
+                    TopDocs firstPage = searcher.search(exactQuery, RandomNumbers.randomIntBetween(random(), 1, 500), sort);
+                    FieldDoc after = (FieldDoc) firstPage.scoreDocs[firstPage.scoreDocs.length - 1];
+
+                    ApproximatePointRangeQuery query = new ApproximatePointRangeQuery(
+                        numericType.fieldName,
+                        numericType.encode(0),
+                        numericType.encode(20000),
+                        1,
+                        numericType.format
+                    );
+                    SearchContext context = mockContext(SortOrder.ASC, size, SearchContext.TRACK_TOTAL_HITS_DISABLED, after, null);
+                    assertTrue(query.canApproximate(context));
+                    TopDocs approxPage = searcher.searchAfter(after, query, size, sort);
+                    TopDocs exactPage = searcher.searchAfter(after, exactQuery, size, sort);
+                    assertEquals(exactPage.scoreDocs.length, approxPage.scoreDocs.length);
+                    for (int i = 0; i < exactPage.scoreDocs.length; i++) {
+                        assertEquals(
+                            "Mismatch at doc index " + i,
+                            ((FieldDoc) exactPage.scoreDocs[i]).fields[0],
+                            ((FieldDoc) approxPage.scoreDocs[i]).fields[0]
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    public void testBottomSortValues() throws IOException {
+        assumeTrue(
+            "the sort values of these fields are not encoded like their points",
+            numericType != NumericType.HALF_FLOAT && numericType != NumericType.UNSIGNED_LONG
+        );
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory, new WhitespaceAnalyzer())) {
+                int numPoints = RandomNumbers.randomIntBetween(random(), 1000, 3000);
+                for (int i = 0; i < numPoints; i++) {
+                    Document doc = new Document();
+                    numericType.addField(doc, numericType.fieldName, i);
+                    numericType.addDocValuesField(doc, numericType.fieldName, i);
+                    iw.addDocument(doc);
+                    if (random().nextInt(20) == 0) {
+                        iw.flush();
+                    }
+                }
+                iw.flush();
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    SortOrder order = randomFrom(SortOrder.values());
+                    Sort sort = new Sort(
+                        new SortField(numericType.getSortFieldName(), numericType.getSortFieldType(), order == SortOrder.DESC)
+                    );
+                    Query exactQuery = numericType.rangeQuery(numericType.fieldName, 0, 5000);
+                    int size = RandomNumbers.randomIntBetween(random(), 5, 20);
+                    TopDocs exactDocs = searcher.search(exactQuery, size, sort);
+                    // the bottom of the top documents collected on other shards, which may be better than the local ones
+                    int bottomIndex = RandomNumbers.randomIntBetween(random(), 0, size - 1);
+                    Object bottom = ((FieldDoc) exactDocs.scoreDocs[bottomIndex]).fields[0];
+                    SearchSortValuesAndFormats bottomSortValues = new SearchSortValuesAndFormats(
+                        new Object[] { bottom },
+                        new DocValueFormat[] { DocValueFormat.RAW }
+                    );
+
+                    ApproximatePointRangeQuery query = new ApproximatePointRangeQuery(
+                        numericType.fieldName,
+                        numericType.encode(0),
+                        numericType.encode(5000),
+                        1,
+                        numericType.format
+                    );
+                    SearchContext context = mockContext(order, size, SearchContext.TRACK_TOTAL_HITS_DISABLED, null, bottomSortValues);
+                    assertTrue(query.canApproximate(context));
+                    TopDocs approxDocs = searcher.search(query, size, sort);
+                    // every document up to the bottom value, and the ties with it, must still be returned
+                    assertTrue(approxDocs.scoreDocs.length > bottomIndex);
+                    for (int i = 0; i <= bottomIndex; i++) {
+                        assertEquals("Mismatch at doc index " + i, exactDocs.scoreDocs[i].doc, approxDocs.scoreDocs[i].doc);
+                    }
+                    for (int i = 0; i < approxDocs.scoreDocs.length; i++) {
+                        Number value = (Number) ((FieldDoc) approxDocs.scoreDocs[i]).fields[0];
+                        int cmp = Double.compare(value.doubleValue(), ((Number) bottom).doubleValue());
+                        assertTrue("Document after the bottom value at index " + i, order == SortOrder.ASC ? cmp <= 0 : cmp >= 0);
+                    }
+                }
+            }
+        }
+    }
+
+    private SearchContext mockContext(
+        SortOrder order,
+        int size,
+        int trackTotalHitsUpTo,
+        FieldDoc searchAfter,
+        SearchSortValuesAndFormats bottomSortValues
+    ) {
+        SearchContext context = mock(SearchContext.class);
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        SearchSourceBuilder source = new SearchSourceBuilder();
+        source.sort(new FieldSortBuilder(numericType.fieldName).order(order));
+        source.terminateAfter(SearchContext.DEFAULT_TERMINATE_AFTER);
+        if (searchAfter != null) {
+            source.searchAfter(searchAfter.fields);
+        }
+        when(context.trackTotalHitsUpTo()).thenReturn(trackTotalHitsUpTo);
+        when(context.from()).thenReturn(0);
+        when(context.size()).thenReturn(size);
+        when(context.searchAfter()).thenReturn(searchAfter);
+        when(context.request()).thenReturn(request);
+        when(request.source()).thenReturn(source);
+        when(request.getBottomSortValues()).thenReturn(bottomSortValues);
+        return context;
+    }
 }
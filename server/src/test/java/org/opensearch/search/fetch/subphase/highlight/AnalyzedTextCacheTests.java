@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch.subphase.highlight;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.FlagsAttribute;
+import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class AnalyzedTextCacheTests extends OpenSearchTestCase {
+
+    public void testDisabledByDefault() {
+        assertNull(AnalyzedTextCache.create(Settings.EMPTY));
+        assertNotNull(AnalyzedTextCache.create(Settings.builder().put(AnalyzedTextCache.SIZE_SETTING.getKey(), "1mb").build()));
+    }
+
+    public void testReplaysSameTokens() throws IOException {
+        AnalyzedTextCache cache = new AnalyzedTextCache(1 << 20);
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            Analyzer cachingAnalyzer = cache.wrap(analyzer, indexSettings("uuid", 1), null);
+            for (int i = 0; i < 20; i++) {
+                String text = randomFrom("The Quick brown fox", "jumps over the lazy dog", "") + " " + randomAlphaOfLength(3);
+                assertEquals(tokens(analyzer, text), tokens(cachingAnalyzer, text));
+                // second pass is served from the cache
+                assertEquals(tokens(analyzer, text), tokens(cachingAnalyzer, text));
+            }
+            assertThat(cache.count(), lessThanOrEqualTo(20L));
+        }
+    }
+
+    public void testReplaysAllAttributes() throws IOException {
+        AnalyzedTextCache cache = new AnalyzedTextCache(1 << 20);
+        try (Analyzer analyzer = new FlaggingAnalyzer()) {
+            Analyzer cachingAnalyzer = cache.wrap(analyzer, indexSettings("uuid", 1), null);
+            String text = "quick brown fox 42 bar";
+            assertEquals(tokens(analyzer, text), tokens(cachingAnalyzer, text));
+            assertEquals(1, cache.count());
+            assertEquals(tokens(analyzer, text), tokens(cachingAnalyzer, text));
+            assertEquals(1, cache.count());
+        }
+    }
+
+    public void testKeyedByIndexAndMappingVersion() throws IOException {
+        AnalyzedTextCache cache = new AnalyzedTextCache(1 << 20);
+        try (Analyzer analyzer = new StandardAnalyzer(); Analyzer other = new StandardAnalyzer()) {
+            tokens(cache.wrap(analyzer, indexSettings("uuid", 1), null), "quick brown fox");
+            assertEquals(1, cache.count());
+            // the analyzers of the same index and mapping version are interchangeable, they are not retained by the cache
+            tokens(cache.wrap(other, indexSettings("uuid", 1), null), "quick brown fox");
+            assertEquals(1, cache.count());
+            tokens(cache.wrap(analyzer, indexSettings("uuid", 2), null), "quick brown fox");
+            assertEquals(2, cache.count());
+            tokens(cache.wrap(analyzer, indexSettings("other_uuid", 1), null), "quick brown fox");
+            assertEquals(3, cache.count());
+        }
+    }
+
+    public void testMaxAnalyzedOffsetAppliedBeforeCaching() throws IOException {
+        AnalyzedTextCache cache = new AnalyzedTextCache(1 << 20);
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            String text = "quick brown fox jumps over the lazy dog";
+            Analyzer limited = new UnifiedHighlighter().getLimitedOffsetAnalyzer(analyzer, 10);
+            Analyzer cachingAnalyzer = cache.wrap(limited, indexSettings("uuid", 1), 10);
+            List<String> expected = tokens(limited, text);
+            assertEquals(expected, tokens(cachingAnalyzer, text));
+            assertEquals(expected, tokens(cachingAnalyzer, text));
+            assertThat(expected.size(), lessThan(tokens(analyzer, text).size()));
+
+            // the same value analyzed without limit is cached separately
+            assertEquals(tokens(analyzer, text), tokens(cache.wrap(analyzer, indexSettings("uuid", 1), null), text));
+            assertEquals(2, cache.count());
+        }
+    }
+
+    public void testBounded() throws IOException {
+        AnalyzedTextCache cache = new AnalyzedTextCache(1024);
+        try (Analyzer analyzer = new StandardAnalyzer()) {
+            Analyzer cachingAnalyzer = cache.wrap(analyzer, indexSettings("uuid", 1), null);
+            for (int i = 0; i < 100; i++) {
+                String text = randomAlphaOfLength(20) + " " + randomAlphaOfLength(20);
+                assertEquals(tokens(analyzer, text), tokens(cachingAnalyzer, text));
+            }
+            assertThat(cache.count(), lessThan(100L));
+        }
+    }
+
+    private static IndexSettings indexSettings(String uuid, long mappingVersion) {
+        IndexMetadata metadata = IndexMetadata.builder("index")
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, uuid))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .mappingVersion(mappingVersion)
+            .build();
+        return IndexSettingsModule.newIndexSettings(metadata);
+    }
+
+    private static List<String> tokens(Analyzer analyzer, String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("field", text)) {
+            CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+            OffsetAttribute offsetAtt = stream.addAttribute(OffsetAttribute.class);
+            PositionIncrementAttribute posIncAtt = stream.addAttribute(PositionIncrementAttribute.class);
+            TypeAttribute typeAtt = stream.addAttribute(TypeAttribute.class);
+            FlagsAttribute flagsAtt = stream.addAttribute(FlagsAttribute.class);
+            KeywordAttribute keywordAtt = stream.addAttribute(KeywordAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(
+                    termAtt
+                        + "/"
+                        + offsetAtt.startOffset()
+                        + "-"
+                        + offsetAtt.endOffset()
+                        + "/"
+                        + posIncAtt.getPositionIncrement()
+                        + "/"
+                        + typeAtt.type()
+                        + "/"
+                        + flagsAtt.getFlags()
+                        + "/"
+                        + keywordAtt.isKeyword()
+                );
+            }
+            stream.end();
+            tokens.add("end/" + offsetAtt.endOffset() + "/" + posIncAtt.getPositionIncrement());
+        }
+        return tokens;
+    }
+
+    /**
+     * Sets the flags and keyword attributes of the tokens, on top of the types set by the standard tokenizer.
+     */
+    private static final class FlaggingAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream stream = new TokenFilter(tokenizer) {
+                private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+                private final FlagsAttribute flagsAtt = addAttribute(FlagsAttribute.class);
+                private final KeywordAttribute keywordAtt = addAttribute(KeywordAttribute.class);
+
+                @Override
+                public boolean incrementToken() throws IOException {
+                    if (input.incrementToken() == false) {
+                        return false;
+                    }
+                    flagsAtt.setFlags(termAtt.length());
+                    keywordAtt.setKeyword(termAtt.charAt(0) == 'b');
+                    return true;
+                }
+            };
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    }
+}
@@ -43,6 +43,8 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class LeafDocLookupTests extends OpenSearchTestCase {
@@ -77,6 +79,18 @@ public class LeafDocLookupTests extends OpenSearchTestCase {
         assertEquals(docValues, fetchedDocValues);
     }
 
+    public void testDocValuesAdvancedOncePerDocument() throws Exception {
+        docLookup.setDocument(3);
+        docLookup.get("field");
+        docLookup.get("field");
+        verify(docValues, times(1)).setNextDocId(3);
+
+        docLookup.setDocument(5);
+        docLookup.get("field");
+        docLookup.get("field");
+        verify(docValues, times(1)).setNextDocId(5);
+    }
+
     private IndexFieldData<?> createFieldData(ScriptDocValues scriptDocValues) {
         LeafFieldData leafFieldData = mock(LeafFieldData.class);
         doReturn(scriptDocValues).when(leafFieldData).getScriptValues();
@@ -50,6 +50,7 @@ import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.tasks.TaskManager;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.MockLogAppender;
@@ -123,6 +124,7 @@ public abstract class InboundHandlerTests extends OpenSearchTestCase {
             threadPool,
             BigArrays.NON_RECYCLING_INSTANCE,
             outboundHandler,
+            CompressorRegistry.defaultCompressor(),
             namedWriteableRegistry,
             handshaker,
             keepAlive,
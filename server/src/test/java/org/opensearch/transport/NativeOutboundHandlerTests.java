@@ -43,11 +43,14 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.io.Streams;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -96,7 +99,8 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
             statsTracker,
             threadPool,
             BigArrays.NON_RECYCLING_INSTANCE,
-            handler
+            handler,
+            randomFrom(CompressorRegistry.defaultCompressor(), CompressorRegistry.getCompressor(ZstdCompressor.NAME))
         );
 
         final LongSupplier millisSupplier = () -> TimeValue.nsecToMSec(System.nanoTime());
@@ -186,6 +190,43 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         assertEquals("header_value", header.getHeaders().v1().get("header"));
     }
 
+    public void testCompressedRequestsToNodesBefore320UseTheDefaultCompressor() throws IOException {
+        final Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        final NativeOutboundHandler zstdOutboundHandler = new NativeOutboundHandler(
+            "node",
+            Version.CURRENT,
+            new String[0],
+            new StatsTracker(),
+            threadPool,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            handler,
+            zstd
+        );
+        final String value = "message";
+
+        zstdOutboundHandler.sendRequest(node, channel, 1, "action", new TestRequest(value), options, Version.V_3_2_0, true, false);
+        assertTrue(zstd.isCompressed(compressedContent(channel.getMessageCaptor().get(), Version.V_3_2_0)));
+
+        final Version oldVersion = Version.CURRENT.minimumCompatibilityVersion();
+        assertTrue(oldVersion.before(Version.V_3_2_0));
+        zstdOutboundHandler.sendRequest(node, channel, 2, "action", new TestRequest(value), options, oldVersion, true, false);
+        final BytesReference reference = channel.getMessageCaptor().get();
+        final BytesReference content = compressedContent(reference, oldVersion);
+        assertFalse(zstd.isCompressed(content));
+        assertTrue(CompressorRegistry.defaultCompressor().isCompressed(content));
+
+        pipeline.handleBytes(channel, new ReleasableBytesReference(reference, () -> {}));
+        final Tuple<Header, BytesReference> tuple = message.get();
+        assertTrue(tuple.v1().isCompressed());
+        assertEquals(oldVersion, tuple.v1().getVersion());
+        assertEquals(value, new TestRequest(tuple.v2().streamInput()).getValue());
+    }
+
+    private static BytesReference compressedContent(BytesReference message, Version version) {
+        final int contentOffset = TcpHeader.headerSize(version) + message.getInt(TcpHeader.VARIABLE_HEADER_SIZE_POSITION);
+        return message.slice(contentOffset, message.length() - contentOffset);
+    }
+
     public void testSendResponse() throws IOException {
         ThreadContext threadContext = threadPool.getThreadContext();
         Version version = randomFrom(Version.CURRENT, Version.CURRENT.minimumCompatibilityVersion());
@@ -248,39 +248,91 @@ public class TcpTransportTests extends OpenSearchTestCase {
     private void testDefaultSeedAddresses(final Settings settings, Matcher<Iterable<? extends String>> seedAddressesMatcher) {
         final TestThreadPool testThreadPool = new TestThreadPool("test");
         try {
-            final TcpTransport tcpTransport = new TcpTransport(
-                settings,
-                Version.CURRENT,
-                testThreadPool,
-                new MockPageCacheRecycler(settings),
-                new NoneCircuitBreakerService(),
-                writableRegistry(),
-                new NetworkService(Collections.emptyList()),
-                NoopTracer.INSTANCE
-            ) {
-
-                @Override
-                protected TcpServerChannel bind(String name, InetSocketAddress address) {
-                    throw new UnsupportedOperationException();
-                }
-
-                @Override
-                protected TcpChannel initiateChannel(DiscoveryNode node) {
-                    throw new UnsupportedOperationException();
-                }
-
-                @Override
-                protected void stopInternal() {
-                    throw new UnsupportedOperationException();
-                }
-            };
-
+            final TcpTransport tcpTransport = newTcpTransport(settings, testThreadPool);
             assertThat(tcpTransport.getDefaultSeedAddresses(), seedAddressesMatcher);
         } finally {
             testThreadPool.shutdown();
         }
     }
 
+    public void testShouldCompressWithCompressionEnabled() {
+        final Settings settings = Settings.builder()
+            .put(TransportSettings.TRANSPORT_COMPRESS.getKey(), true)
+            .putList(TransportSettings.TRANSPORT_COMPRESS_INCLUDE_ACTIONS.getKey(), "internal:index/shard/recovery/")
+            .putList(TransportSettings.TRANSPORT_COMPRESS_EXCLUDE_ACTIONS.getKey(), "indices:data/read/search")
+            .build();
+        final boolean compress = TransportSettings.TRANSPORT_COMPRESS.get(settings);
+        final TestThreadPool testThreadPool = new TestThreadPool("test");
+        try {
+            final TcpTransport tcpTransport = newTcpTransport(settings, testThreadPool);
+            assertFalse(tcpTransport.shouldCompress(compress, "indices:data/read/search[phase/query]"));
+            assertFalse(tcpTransport.shouldCompress(compress, "indices:data/read/search"));
+            assertTrue(tcpTransport.shouldCompress(compress, "indices:data/write/bulk[s]"));
+            assertTrue(tcpTransport.shouldCompress(compress, "internal:index/shard/recovery/file_chunk"));
+            // the prefixes match the start of the action only
+            assertTrue(tcpTransport.shouldCompress(compress, "internal:indices:data/read/search"));
+
+            final TcpTransport withoutPrefixes = newTcpTransport(Settings.EMPTY, testThreadPool);
+            assertTrue(withoutPrefixes.shouldCompress(compress, "indices:data/read/search[phase/query]"));
+            assertTrue(withoutPrefixes.shouldCompress(compress, "internal:index/shard/recovery/file_chunk"));
+        } finally {
+            testThreadPool.shutdown();
+        }
+    }
+
+    public void testShouldCompressWithCompressionDisabled() {
+        final Settings settings = Settings.builder()
+            .put(TransportSettings.TRANSPORT_COMPRESS.getKey(), false)
+            .putList(TransportSettings.TRANSPORT_COMPRESS_INCLUDE_ACTIONS.getKey(), "internal:index/shard/recovery/")
+            .putList(TransportSettings.TRANSPORT_COMPRESS_EXCLUDE_ACTIONS.getKey(), "indices:data/read/search")
+            .build();
+        final boolean compress = TransportSettings.TRANSPORT_COMPRESS.get(settings);
+        final TestThreadPool testThreadPool = new TestThreadPool("test");
+        try {
+            final TcpTransport tcpTransport = newTcpTransport(settings, testThreadPool);
+            assertTrue(tcpTransport.shouldCompress(compress, "internal:index/shard/recovery/file_chunk"));
+            assertFalse(tcpTransport.shouldCompress(compress, "indices:data/read/search[phase/query]"));
+            assertFalse(tcpTransport.shouldCompress(compress, "indices:data/write/bulk[s]"));
+            // the prefixes match the start of the action only
+            assertFalse(tcpTransport.shouldCompress(compress, "indices:internal:index/shard/recovery/file_chunk"));
+
+            final TcpTransport withoutPrefixes = newTcpTransport(Settings.EMPTY, testThreadPool);
+            assertFalse(withoutPrefixes.shouldCompress(compress, "internal:index/shard/recovery/file_chunk"));
+            assertFalse(withoutPrefixes.shouldCompress(compress, "indices:data/read/search[phase/query]"));
+        } finally {
+            testThreadPool.shutdown();
+        }
+    }
+
+    private TcpTransport newTcpTransport(Settings settings, ThreadPool threadPool) {
+        return new TcpTransport(
+            settings,
+            Version.CURRENT,
+            threadPool,
+            new MockPageCacheRecycler(settings),
+            new NoneCircuitBreakerService(),
+            writableRegistry(),
+            new NetworkService(Collections.emptyList()),
+            NoopTracer.INSTANCE
+        ) {
+
+            @Override
+            protected TcpServerChannel bind(String name, InetSocketAddress address) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected TcpChannel initiateChannel(DiscoveryNode node) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected void stopInternal() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
     public void testReadMessageLengthWithIncompleteHeader() throws IOException {
         BytesStreamOutput streamOutput = new BytesStreamOutput(1 << 14);
         streamOutput.write('E');
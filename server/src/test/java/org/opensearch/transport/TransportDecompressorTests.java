@@ -36,7 +36,11 @@ import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -47,6 +51,8 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
@@ -151,4 +157,89 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testZstdCompressionIsDecompressedAtEndOfInput() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput zstdStream = new OutputStreamStreamOutput(
+                    CompressorRegistry.getCompressor(ZstdCompressor.NAME).threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < 10000; ++i) {
+                    zstdStream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            assertFalse(decompressor.canDecompress(4));
+            assertTrue(decompressor.canDecompress(5));
+
+            int split = (int) (bytes.length() * 0.5);
+            BytesReference inbound1 = bytes.slice(0, split);
+            BytesReference inbound2 = bytes.slice(split, bytes.length() - split);
+
+            assertEquals(inbound1.length(), decompressor.decompress(inbound1));
+            assertFalse(decompressor.isEOS());
+            assertEquals(inbound2.length(), decompressor.decompress(inbound2));
+            // zstd messages are only decompressed once all their bytes are received
+            assertFalse(decompressor.isEOS());
+            assertNull(decompressor.pollDecompressedPage());
+            decompressor.endOfInput();
+            assertTrue(decompressor.isEOS());
+
+            ReleasableBytesReference reference1 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference2 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference3 = decompressor.pollDecompressedPage();
+            assertNull(decompressor.pollDecompressedPage());
+            BytesReference composite = CompositeBytesReference.of(reference1, reference2, reference3);
+            assertEquals(4 * 10000, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < 10000; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(reference1, reference2, reference3);
+            decompressor.close();
+        }
+    }
+
+    public void testZstdCompressionSpanningManyPages() throws IOException {
+        // random bytes do not compress, so the buffered compressed bytes span several recycled pages as well
+        byte[] content = randomByteArrayOfLength(randomIntBetween(2, 5) * PageCacheRecycler.BYTE_PAGE_SIZE + randomIntBetween(0, 100));
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                OutputStream zstdStream = CompressorRegistry.getCompressor(ZstdCompressor.NAME)
+                    .threadLocalOutputStream(Streams.flushOnCloseStream(output))
+            ) {
+                zstdStream.write(content);
+            }
+
+            BytesReference bytes = output.bytes();
+            TransportDecompressor decompressor = new TransportDecompressor(new MockPageCacheRecycler(Settings.EMPTY));
+            int offset = 0;
+            while (offset < bytes.length()) {
+                int length = Math.min(randomIntBetween(1, PageCacheRecycler.BYTE_PAGE_SIZE), bytes.length() - offset);
+                assertEquals(length, decompressor.decompress(bytes.slice(offset, length)));
+                offset += length;
+            }
+            assertFalse(decompressor.isEOS());
+            if (randomBoolean()) {
+                // the buffered pages are released when the message is not complete
+                decompressor.close();
+                return;
+            }
+            decompressor.endOfInput();
+            assertTrue(decompressor.isEOS());
+
+            List<ReleasableBytesReference> references = new ArrayList<>();
+            ReleasableBytesReference reference;
+            while ((reference = decompressor.pollDecompressedPage()) != null) {
+                references.add(reference);
+            }
+            BytesReference composite = CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+            assertEquals(new BytesArray(content), composite);
+            Releasables.close(references);
+            decompressor.close();
+        }
+    }
 }